@@ -0,0 +1,69 @@
+package com.innocodes.api_gateway.authorization;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.*;
+
+/**
+ * Compiled form of {@link EdgeAuthorizationProperties}: patterns are parsed once at startup
+ * and rules are pre-grouped per HTTP method, so a request only scans the rules for its method.
+ * Requests no rule matches are allowed through; the owning service still enforces its own checks.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(EdgeAuthorizationProperties.class)
+public class EdgeAuthorizationPolicy {
+
+    private record CompiledRule(PathPattern pattern, Set<String> roles) {
+    }
+
+    private final boolean enabled;
+    private final Map<String, List<CompiledRule>> rulesByMethod = new HashMap<>();
+
+    public EdgeAuthorizationPolicy(EdgeAuthorizationProperties properties) {
+        this.enabled = properties.enabled();
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        for (EdgeAuthorizationProperties.Rule rule : properties.rules()) {
+            Set<String> roles = new HashSet<>();
+            rule.roles().forEach(role -> roles.add(role.toUpperCase(Locale.ROOT)));
+            CompiledRule compiled = new CompiledRule(parser.parse(rule.path()), Set.copyOf(roles));
+
+            // Method-less rules are appended to every method list, keeping declaration order
+            Collection<String> methods = rule.methods().isEmpty()
+                    ? Arrays.stream(HttpMethod.values()).map(HttpMethod::name).toList()
+                    : rule.methods().stream().map(m -> m.toUpperCase(Locale.ROOT)).toList();
+            for (String method : methods) {
+                rulesByMethod.computeIfAbsent(method, m -> new ArrayList<>()).add(compiled);
+            }
+        }
+        log.info("🛡️ Edge authorization {} with {} rules", enabled ? "enabled" : "disabled", properties.rules().size());
+    }
+
+    /**
+     * @return true when the first matching rule admits {@code role}, or when no rule matches
+     */
+    public boolean isAllowed(HttpMethod method, String path, String role) {
+        if (!enabled) {
+            return true;
+        }
+        List<CompiledRule> candidates = rulesByMethod.get(method.name());
+        if (candidates == null) {
+            return true;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledRule rule : candidates) {
+            if (rule.pattern().matches(pathContainer)) {
+                return rule.roles().isEmpty()
+                        || (role != null && rule.roles().contains(role.toUpperCase(Locale.ROOT)));
+            }
+        }
+        return true;
+    }
+}
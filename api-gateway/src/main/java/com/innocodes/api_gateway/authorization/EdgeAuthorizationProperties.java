@@ -0,0 +1,32 @@
+package com.innocodes.api_gateway.authorization;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Declarative route/method/role table enforced at the gateway.
+ *
+ * @param enabled whether the table is enforced
+ * @param rules   evaluated in order; the first rule whose path and method match decides
+ */
+@ConfigurationProperties(prefix = "gateway.authorization")
+public record EdgeAuthorizationProperties(boolean enabled, List<Rule> rules) {
+
+    public EdgeAuthorizationProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * @param path    Spring path pattern on the gateway-facing path, e.g. {@code /*}{@code /api/v1/departments/**}
+     * @param methods HTTP methods the rule covers; empty means all
+     * @param roles   roles allowed through; empty means any authenticated caller
+     */
+    public record Rule(String path, List<String> methods, List<String> roles) {
+
+        public Rule {
+            methods = methods == null ? List.of() : List.copyOf(methods);
+            roles = roles == null ? List.of() : List.copyOf(roles);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.innocodes.api_gateway.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import org.springframework.beans.factory.annotation.Value;
+import com.innocodes.api_gateway.authorization.EdgeAuthorizationPolicy;
+import com.innocodes.api_gateway.revocation.TokenRevocationList;
+import com.innocodes.jwt_core.EdgeIdentitySigner;
+import com.innocodes.jwt_core.JwtClaims;
+import com.innocodes.jwt_core.JwtVerificationException;
+import com.innocodes.jwt_core.ReactiveJwtVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -11,14 +16,33 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 @Component
+@Slf4j
 public class JwtAuthenticationFilter implements WebFilter {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final ReactiveJwtVerifier jwtVerifier;
+    private final EdgeIdentitySigner edgeIdentitySigner;
+    private final TokenRevocationList revocationList;
+    private final EdgeAuthorizationPolicy authorizationPolicy;
+
+    public JwtAuthenticationFilter(ReactiveJwtVerifier jwtVerifier,
+                                   ObjectProvider<EdgeIdentitySigner> edgeIdentitySigner,
+                                   TokenRevocationList revocationList,
+                                   EdgeAuthorizationPolicy authorizationPolicy) {
+        this.jwtVerifier = jwtVerifier;
+        this.edgeIdentitySigner = edgeIdentitySigner.getIfAvailable();
+        this.revocationList = revocationList;
+        this.authorizationPolicy = authorizationPolicy;
+    }
 
     @Override
-    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    public Mono<Void> filter(ServerWebExchange original, WebFilterChain chain) {
+        // ✅ Never let a client supply its own identity headers
+        ServerWebExchange exchange = original.mutate()
+                .request(r -> r.headers(headers -> EdgeIdentitySigner.IDENTITY_HEADERS.forEach(headers::remove)))
+                .build();
         String path = exchange.getRequest().getURI().getPath();
 
         // ✅ Allow auth endpoints (login/register) without token
@@ -41,22 +65,64 @@ public class JwtAuthenticationFilter implements WebFilter {
         }
 
         String token = authHeader.substring(7);
+        return jwtVerifier.verify(token)
+                .map(Optional::of)
+                // ✅ Any failure to verify or read the token is the client's: 401, never a 500 from the edge
+                .onErrorResume(RuntimeException.class, e -> {
+                    log.debug("Rejected bearer token: {}", e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(claims -> claims.isPresent()
+                        ? authorize(exchange, chain, path, claims.get())
+                        : reject(exchange, HttpStatus.UNAUTHORIZED));
+    }
+
+    private Mono<Void> authorize(ServerWebExchange exchange, WebFilterChain chain, String path, JwtClaims claims) {
+        String email;
+        String jwtId;
+        String role;
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secret.getBytes())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            email = claims.getEmail();
+            jwtId = claims.getJwtId();
+            role = claims.getRole();
+        } catch (JwtVerificationException e) {
+            // Verified, but a claim has the wrong type
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        }
+        // ✅ Local lookup only: Bloom filter probe, exact check on a hit
+        if (revocationList.isRevoked(jwtId)) {
+            log.debug("Rejected revoked token for user: {}", email);
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        }
+        // ✅ Role check from the same claims, before a downstream connection is used
+        if (!authorizationPolicy.isAllowed(exchange.getRequest().getMethod(), path, role)) {
+            log.debug("Edge policy denied {} {} for role {}", exchange.getRequest().getMethod(), path, role);
+            return reject(exchange, HttpStatus.FORBIDDEN);
+        }
+        log.debug("Authenticated user: {}", email);
+        return chain.filter(withIdentity(exchange, claims));
+    }
 
-            // Optionally, you can log or extract roles/email here:
-            String email = claims.getSubject();
-            System.out.println("Authenticated user: " + email);
+    private static Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
+    }
 
-        } catch (Exception e) {
-            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-            return exchange.getResponse().setComplete();
+    private ServerWebExchange withIdentity(ServerWebExchange exchange, JwtClaims claims) {
+        if (edgeIdentitySigner == null || claims.getEmail() == null || claims.getExpiration() == null) {
+            return exchange;
         }
+        long expiresAt = claims.getExpiration().getTime() / 1000L;
+        String role = claims.getRole() == null ? "" : claims.getRole();
+        String signature = edgeIdentitySigner.sign(claims.getEmail(), role, expiresAt);
 
-        return chain.filter(exchange);
+        return exchange.mutate()
+                .request(r -> r.headers(headers -> {
+                    headers.set(EdgeIdentitySigner.EMAIL_HEADER, claims.getEmail());
+                    headers.set(EdgeIdentitySigner.ROLE_HEADER, role);
+                    headers.set(EdgeIdentitySigner.EXPIRES_HEADER, String.valueOf(expiresAt));
+                    headers.set(EdgeIdentitySigner.SIGNATURE_HEADER, signature);
+                }))
+                .build();
     }
 }
@@ -0,0 +1,39 @@
+package com.innocodes.api_gateway.filter;
+
+import com.innocodes.jwt_core.EdgeIdentitySigner;
+import com.innocodes.jwt_core.JwtVerifier;
+import com.innocodes.jwt_core.ReactiveJwtVerifier;
+import com.innocodes.jwt_core.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+public class JwtConfig {
+
+    @Bean
+    public ReactiveJwtVerifier jwtVerifier(@Value("${jwt.secret}") String secret,
+                                           @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        return new ReactiveJwtVerifier(
+                new JwtVerifier(secret.getBytes(StandardCharsets.UTF_8), new VerifiedTokenCache(cacheMaxSize)));
+    }
+
+    // Service-to-service client resolving lb names (e.g. http://auth-service) through discovery
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+
+    // Trusted-edge mode: forward signed identity headers so services skip JWT re-verification
+    @Bean
+    @ConditionalOnProperty(name = "jwt.edge.enabled", havingValue = "true")
+    public EdgeIdentitySigner edgeIdentitySigner(@Value("${jwt.edge.secret}") String edgeSecret) {
+        return new EdgeIdentitySigner(edgeSecret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.innocodes.api_gateway.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over strings, built once from a known set.
+ * {@link #mightContain} never returns false for an added value; false positives
+ * occur at roughly the configured rate and must be confirmed against the exact set.
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(int bitCount, int hashCount) {
+        this.bits = new long[(bitCount + 63) >>> 6];
+        this.bitCount = bits.length << 6;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter of(Collection<String> values, double falsePositiveRate) {
+        int n = Math.max(values.size(), 1);
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        int bitCount = (int) Math.max(64, Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        BloomFilter filter = new BloomFilter(bitCount, hashCount);
+        values.forEach(filter::add);
+        return filter;
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 fmix64 avalanche
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
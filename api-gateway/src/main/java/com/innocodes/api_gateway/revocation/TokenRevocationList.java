@@ -0,0 +1,93 @@
+package com.innocodes.api_gateway.revocation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local copy of auth-service's revoked token ids, refreshed on a schedule.
+ * <p>
+ * The common "not revoked" answer is a few Bloom filter probes with no network call;
+ * only filter hits are confirmed against the exact set. If a sync fails the last
+ * snapshot stays in force, so revocation is eventually consistent within the sync interval.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private record Snapshot(BloomFilter filter, Map<String, Long> expiresAtByJti) {
+    }
+
+    private final WebClient webClient;
+    static final String SYNC_SECRET_HEADER = "X-Revocation-Sync-Secret";
+
+    private final String sourceUrl;
+    private final double falsePositiveRate;
+    private final Duration syncTimeout;
+
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationList(@LoadBalanced WebClient.Builder loadBalancedWebClientBuilder,
+                               @Value("${jwt.revocation.source-url:http://auth-service/api/v1/auth/revocations}") String sourceUrl,
+                               @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${jwt.revocation.sync-timeout:5s}") Duration syncTimeout,
+                               @Value("${jwt.revocation.sync-secret:}") String syncSecret) {
+        // auth-service only lists revocations to callers presenting the shared sync secret
+        this.webClient = loadBalancedWebClientBuilder.clone()
+                .defaultHeader(SYNC_SECRET_HEADER, syncSecret)
+                .build();
+        this.sourceUrl = sourceUrl;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncTimeout = syncTimeout;
+        replace(Map.of());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.filter().mightContain(jti) && current.expiresAtByJti().containsKey(jti);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation.sync-interval:30s}")
+    public void sync() {
+        try {
+            JsonNode body = webClient.get()
+                    .uri(sourceUrl)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block(syncTimeout);
+            if (body == null || !body.path("data").isArray()) {
+                log.warn("Token revocation sync returned no data; keeping previous snapshot");
+                return;
+            }
+
+            Map<String, Long> revoked = new HashMap<>();
+            long now = System.currentTimeMillis() / 1000L;
+            for (JsonNode entry : body.path("data")) {
+                long expiresAt = entry.path("expiresAt").asLong();
+                if (expiresAt > now) {
+                    revoked.put(entry.path("jti").asText(), expiresAt);
+                }
+            }
+            replace(revoked);
+            log.debug("Token revocation list synced: {} active revocations", revoked.size());
+        } catch (RuntimeException e) {
+            log.warn("Token revocation sync failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    // Filter and exact set are swapped together so readers never see a filter without its backing set
+    void replace(Map<String, Long> revoked) {
+        snapshot = new Snapshot(BloomFilter.of(revoked.keySet(), falsePositiveRate), Map.copyOf(revoked));
+    }
+}
@@ -0,0 +1,46 @@
+package com.innocodes.api_gateway.authorization;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeAuthorizationPolicyTest {
+
+    private final EdgeAuthorizationPolicy policy = new EdgeAuthorizationPolicy(new EdgeAuthorizationProperties(true, List.of(
+            new EdgeAuthorizationProperties.Rule("/*/api/v1/employees/{id:[0-9]+}", List.of("GET", "PUT", "DELETE"), List.of("ADMIN")),
+            new EdgeAuthorizationProperties.Rule("/*/api/v1/employees/department/{id:[0-9]+}", List.of("GET"), List.of("MANAGER")),
+            new EdgeAuthorizationProperties.Rule("/*/api/v1/reports/**", null, List.of("admin"))
+    )));
+
+    @Test
+    void isAllowed_ShouldEnforceRoleOnMatchingRoute() {
+        assertTrue(policy.isAllowed(HttpMethod.DELETE, "/employee/api/v1/employees/7", "ADMIN"));
+        assertFalse(policy.isAllowed(HttpMethod.DELETE, "/employee/api/v1/employees/7", "EMPLOYEE"));
+        assertFalse(policy.isAllowed(HttpMethod.PUT, "/employee-management-service/api/v1/employees/7", "MANAGER"));
+        assertFalse(policy.isAllowed(HttpMethod.GET, "/employee/api/v1/employees/7", null));
+        assertTrue(policy.isAllowed(HttpMethod.GET, "/employee/api/v1/employees/department/3", "MANAGER"));
+    }
+
+    @Test
+    void isAllowed_ShouldPassUnmatchedRoutesAndMethods() {
+        assertTrue(policy.isAllowed(HttpMethod.GET, "/employee/api/v1/employees/me", "EMPLOYEE"));
+        assertTrue(policy.isAllowed(HttpMethod.POST, "/employee/api/v1/employees/7", "EMPLOYEE"));
+    }
+
+    @Test
+    void isAllowed_ShouldApplyMethodlessRulesToAllMethods() {
+        assertFalse(policy.isAllowed(HttpMethod.PATCH, "/employee/api/v1/reports/daily", "MANAGER"));
+        assertTrue(policy.isAllowed(HttpMethod.GET, "/employee/api/v1/reports/daily", "ADMIN"));
+    }
+
+    @Test
+    void isAllowed_ShouldAllowEverything_WhenDisabled() {
+        EdgeAuthorizationPolicy disabled = new EdgeAuthorizationPolicy(new EdgeAuthorizationProperties(false, List.of(
+                new EdgeAuthorizationProperties.Rule("/**", null, List.of("ADMIN")))));
+
+        assertTrue(disabled.isAllowed(HttpMethod.DELETE, "/employee/api/v1/employees/7", "EMPLOYEE"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.innocodes.api_gateway.filter;
+
+import com.innocodes.api_gateway.authorization.EdgeAuthorizationPolicy;
+import com.innocodes.api_gateway.authorization.EdgeAuthorizationProperties;
+import com.innocodes.api_gateway.revocation.TokenRevocationList;
+import com.innocodes.jwt_core.EdgeIdentitySigner;
+import com.innocodes.jwt_core.JwtMinter;
+import com.innocodes.jwt_core.JwtVerifier;
+import com.innocodes.jwt_core.ReactiveJwtVerifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final byte[] SECRET =
+            "3b8b6f6a2c4a8f0b90e2c7c9f67f8e8a1d1a2b3c4d5e6f708091a1b2c3d4e5f6".getBytes(StandardCharsets.UTF_8);
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+            new ReactiveJwtVerifier(new JwtVerifier(SECRET)),
+            new StaticListableBeanFactory().getBeanProvider(EdgeIdentitySigner.class),
+            new TokenRevocationList(WebClient.builder(), "http://auth-service/none", 0.01, Duration.ofSeconds(1), ""),
+            new EdgeAuthorizationPolicy(new EdgeAuthorizationProperties(false, List.of())));
+
+    // ✅ Malformed tokens, including JSON that is not an object, are a 401 and never reach the service
+    @Test
+    void filter_ShouldAnswer401_ForMalformedTokens() {
+        String nullSegment = Base64.getUrlEncoder().withoutPadding().encodeToString("null".getBytes(StandardCharsets.UTF_8));
+        for (String token : List.of("garbage", "a.b.c", nullSegment + "." + nullSegment + ".c2ln")) {
+            AtomicBoolean forwarded = new AtomicBoolean();
+            MockServerWebExchange exchange = get("Bearer " + token);
+
+            filter.filter(exchange, forwardTo(forwarded)).block();
+
+            assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode(), token);
+            assertFalse(forwarded.get());
+        }
+    }
+
+    @Test
+    void filter_ShouldForwardValidTokens() {
+        AtomicBoolean forwarded = new AtomicBoolean();
+        String token = new JwtMinter(SECRET, 60_000).mint(Map.of("email", "john@company.com", "role", "ADMIN"));
+
+        filter.filter(get("Bearer " + token), forwardTo(forwarded)).block();
+
+        assertTrue(forwarded.get());
+    }
+
+    // ✅ A failure downstream of authentication is not turned into a 401
+    @Test
+    void filter_ShouldPropagateDownstreamErrors() {
+        String token = new JwtMinter(SECRET, 60_000).mint(Map.of("email", "john@company.com", "role", "ADMIN"));
+        WebFilterChain failing = exchange -> Mono.error(new IllegalStateException("downstream"));
+
+        assertThrows(IllegalStateException.class, () -> filter.filter(get("Bearer " + token), failing).block());
+    }
+
+    private static MockServerWebExchange get(String authorization) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/employee/api/v1/employees/me")
+                .header(HttpHeaders.AUTHORIZATION, authorization));
+    }
+
+    private static WebFilterChain forwardTo(AtomicBoolean forwarded) {
+        return exchange -> {
+            forwarded.set(true);
+            return Mono.empty();
+        };
+    }
+}
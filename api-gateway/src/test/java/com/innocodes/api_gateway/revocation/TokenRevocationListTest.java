@@ -0,0 +1,43 @@
+package com.innocodes.api_gateway.revocation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    @Test
+    void bloomFilter_ShouldHaveNoFalseNegatives_AndFewFalsePositives() {
+        List<String> revoked = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        BloomFilter filter = BloomFilter.of(revoked, 0.01);
+
+        revoked.forEach(jti -> assertTrue(filter.mightContain(jti)));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void isRevoked_ShouldReflectLatestSnapshot() {
+        TokenRevocationList list = new TokenRevocationList(WebClient.builder(), "http://localhost", 0.01, Duration.ofSeconds(1), "");
+        assertFalse(list.isRevoked("jti-1"));
+        assertFalse(list.isRevoked(null));
+
+        Map<String, Long> revoked = new HashMap<>();
+        revoked.put("jti-1", System.currentTimeMillis() / 1000L + 60);
+        list.replace(revoked);
+
+        assertTrue(list.isRevoked("jti-1"));
+        assertFalse(list.isRevoked("jti-2"));
+    }
+}
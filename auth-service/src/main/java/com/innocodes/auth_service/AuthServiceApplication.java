@@ -3,9 +3,11 @@ package com.innocodes.auth_service;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @OpenAPIDefinition
+@EnableScheduling
 public class AuthServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,85 @@
+package com.innocodes.auth_service.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link LocalDateTime} exactly as {@code DateTimeFormatter.ISO_LOCAL_DATE_TIME} would
+ * ({@code 2025-01-31T09:05:00}, fraction only when non-zero and without trailing zeros), but
+ * straight into a char buffer instead of through the formatter's printer chain and an
+ * intermediate String. Timestamps, {@code @JsonFormat} patterns and years outside 0000-9999
+ * take the standard path.
+ */
+public class IsoLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+    public IsoLocalDateTimeSerializer() {
+        super();
+    }
+
+    protected IsoLocalDateTimeSerializer(IsoLocalDateTimeSerializer base, Boolean useTimestamp,
+                                         Boolean useNanoseconds, DateTimeFormatter formatter) {
+        super(base, useTimestamp, useNanoseconds, formatter);
+    }
+
+    // Contextualisation for each property goes through these; keep the fast path instead of reverting to the base class
+    @Override
+    protected LocalDateTimeSerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter, JsonFormat.Shape shape) {
+        return new IsoLocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, formatter);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
+        return new IsoLocalDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (_formatter != null || year < 0 || year > 9999 || useTimestamp(provider)) {
+            super.serialize(value, generator, provider);
+            return;
+        }
+
+        char[] buffer = new char[29];
+        put4(buffer, 0, year);
+        buffer[4] = '-';
+        put2(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        put2(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        put2(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        put2(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        put2(buffer, 17, value.getSecond());
+        int length = 19;
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            int divisor = 100_000_000;
+            while (nano != 0) {
+                buffer[length++] = (char) ('0' + nano / divisor);
+                nano %= divisor;
+                divisor /= 10;
+            }
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void put2(char[] buffer, int at, int value) {
+        buffer[at] = (char) ('0' + value / 10);
+        buffer[at + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void put4(char[] buffer, int at, int value) {
+        put2(buffer, at, value / 100);
+        put2(buffer, at + 2, value % 100);
+    }
+}
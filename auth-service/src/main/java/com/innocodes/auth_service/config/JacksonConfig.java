@@ -0,0 +1,30 @@
+package com.innocodes.auth_service.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tunes the Boot-configured ObjectMapper that writes every {@code ApiResponse}. Property names
+ * are already pre-encoded by Jackson's bean serializers; what remains is reflective getter calls
+ * and date formatting.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // Getters called through generated lambdas instead of Method.invoke; Boot registers every Module bean
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // Registered after the JSR-310 module, so it replaces the formatter-based LocalDateTime serializer
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer isoLocalDateTimeSerializer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+}
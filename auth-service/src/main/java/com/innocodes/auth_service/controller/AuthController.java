@@ -1,17 +1,23 @@
 package com.innocodes.auth_service.controller;
 
 import com.innocodes.auth_service.dto.request.LoginRequest;
+import com.innocodes.auth_service.dto.request.PasswordResetRequest;
 import com.innocodes.auth_service.dto.request.UserRequest;
 import com.innocodes.auth_service.dto.response.ApiResponse;
 import com.innocodes.auth_service.dto.response.AuthResponse;
+import com.innocodes.auth_service.dto.response.RevokedTokenResponse;
 import com.innocodes.auth_service.dto.response.UserResponse;
 import com.innocodes.auth_service.service.AuthService;
 import com.innocodes.auth_service.security.JwtUtil;
+import com.innocodes.auth_service.util.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -19,6 +25,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtUtil jwtUtil;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<UserResponse>> registerUser(@RequestHeader ("Authorization") String authorization,
@@ -30,7 +37,26 @@ public class AuthController {
 
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        return ResponseEntity.ok(authService.login(request));
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+                                              HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(authService.login(request, clientIpResolver.resolve(httpRequest)));
+    }
+
+    // Sets a new password; imported accounts must call this before their first login succeeds
+    @PostMapping("/password")
+    public ResponseEntity<ApiResponse<Void>> resetPassword(@Valid @RequestBody PasswordResetRequest request,
+                                                           HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(authService.resetPassword(request, clientIpResolver.resolve(httpRequest)));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestHeader("Authorization") String authorization) {
+        return ResponseEntity.ok(authService.logout(authorization.substring(7)));
+    }
+
+    // Polled by the api-gateway to refresh its local revocation filter
+    @GetMapping("/revocations")
+    public ResponseEntity<ApiResponse<List<RevokedTokenResponse>>> getActiveRevocations() {
+        return ResponseEntity.ok(authService.getActiveRevocations());
     }
 }
@@ -0,0 +1,23 @@
+package com.innocodes.auth_service.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PasswordResetRequest {
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @NotBlank(message = "Current password is required")
+    private String currentPassword;
+
+    @NotBlank(message = "New password is required")
+    @Size(min = 8, max = 72, message = "New password must be 8 to 72 characters")
+    private String newPassword;
+}
@@ -0,0 +1,12 @@
+package com.innocodes.auth_service.dto.response;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedTokenResponse {
+    private String jti;
+    private long expiresAt;   // epoch seconds, same unit as the token's exp claim
+}
@@ -0,0 +1,25 @@
+package com.innocodes.auth_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+    @Id
+    @Column(length = 64)
+    private String jti;
+    @Column(nullable = false)
+    private String email;
+    // Kept only until the token would have expired anyway
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    private LocalDateTime revokedAt;
+}
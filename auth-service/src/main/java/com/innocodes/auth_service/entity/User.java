@@ -14,8 +14,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class User {
+    // Stored instead of a hash for accounts created without a password (bulk import): not BCrypt, so
+    // nothing matches it, and auth-service makes the user set a password on first login
+    public static final String PASSWORD_RESET_REQUIRED = "!reset-required";
+
+    // Pooled sequence: ids are handed out 50 at a time, which keeps JDBC insert batching possible
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
     private String firstName;
     private String lastName;
@@ -0,0 +1,18 @@
+package com.innocodes.auth_service.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a caller exceeds a rate limit or is locked out after repeated failures.
+ * Mapped to 429 with a Retry-After header.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
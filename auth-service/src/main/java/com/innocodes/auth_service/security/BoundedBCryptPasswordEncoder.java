@@ -0,0 +1,179 @@
+package com.innocodes.auth_service.security;
+
+import com.innocodes.auth_service.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt encoder whose hashing runs on a dedicated, size-capped pool instead of the
+ * calling (Tomcat) thread. When the pool and its queue are full the call fails fast
+ * with {@link ServiceBusyException}, so a login storm cannot starve cheap endpoints.
+ * <p>
+ * The cost factor is calibrated at startup to the configured target latency and
+ * {@link #upgradeEncoding(String)} reports hashes stored with a lower cost. Hashes above
+ * it are kept, so replicas that calibrate differently never rehash a user back and forth.
+ */
+@Slf4j
+@Component
+public class BoundedBCryptPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private static final String CALIBRATION_INPUT = "bcrypt-cost-calibration";
+
+    private final BCryptPasswordEncoder delegate;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BoundedBCryptPasswordEncoder(
+            @Value("${auth.password.bcrypt.target-latency:250ms}") Duration targetLatency,
+            @Value("${auth.password.bcrypt.min-cost:10}") int minCost,
+            @Value("${auth.password.bcrypt.max-cost:14}") int maxCost,
+            @Value("${auth.password.hashing.threads:0}") int threads,
+            @Value("${auth.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.hashing.timeout:5s}") Duration timeout,
+            @Value("${auth.password.hashing.retry-after:1s}") Duration retryAfter) {
+        this.cost = calibrateCost(targetLatency, minCost, maxCost);
+        this.delegate = new BCryptPasswordEncoder(cost);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        log.info("🔐 BCrypt cost {} (target {} ms), hashing pool {} threads / queue {}",
+                cost, targetLatency.toMillis(), poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // ✅ True only when the stored hash is weaker than the current target; stronger hashes are kept
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    /**
+     * Queues a hash on the pool without waiting for it, for work no caller blocks on.
+     * Only taken when nothing is queued, so it never delays a waiting login; otherwise
+     * the future fails with {@link ServiceBusyException}.
+     */
+    public CompletableFuture<String> encodeInBackground(CharSequence rawPassword) {
+        if (!executor.getQueue().isEmpty()) {
+            return CompletableFuture.failedFuture(busy());
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> delegate.encode(rawPassword), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(busy());
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw busy();
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private ServiceBusyException busy() {
+        return new ServiceBusyException("Authentication service is busy, please retry shortly", retryAfterSeconds);
+    }
+
+    /**
+     * Picks the highest cost in [minCost, maxCost] whose hash time stays within the target.
+     * Each extra cost step doubles the work, so one measurement at minCost is enough.
+     */
+    static int calibrateCost(Duration targetLatency, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        probe.encode(CALIBRATION_INPUT); // warm-up
+        long start = System.nanoTime();
+        probe.encode(CALIBRATION_INPUT);
+        long elapsed = System.nanoTime() - start;
+
+        int calibrated = minCost;
+        while (calibrated < maxCost && elapsed * 2 <= targetLatency.toNanos()) {
+            elapsed *= 2;
+            calibrated++;
+        }
+        return calibrated;
+    }
+
+    // $2a$10$<salt+hash> -> 10; -1 when the value is not a bcrypt hash
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int end = encodedPassword.indexOf('$', 4);
+        if (end < 0) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "auth.password-hashing", Tags.empty()).bindTo(registry);
+        FunctionCounter.builder("auth.password-hashing.rejected", rejected, AtomicLong::get)
+                .description("Hashing requests rejected because the pool was saturated")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,40 @@
+package com.innocodes.auth_service.security;
+
+import com.innocodes.jwt_core.EdgeIdentitySigner;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Trusted-edge mode: when enabled, accepts the identity headers the api-gateway signs
+ * after verifying the JWT, so this service can skip its own token verification.
+ */
+@Component
+public class EdgeIdentityResolver {
+
+    private final EdgeIdentitySigner signer;
+
+    public EdgeIdentityResolver(@Value("${jwt.edge.enabled:false}") boolean enabled,
+                                @Value("${jwt.edge.secret:}") String secret) {
+        this.signer = enabled ? new EdgeIdentitySigner(secret.getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    /**
+     * Returns the gateway-asserted email, or null when the mode is off or the headers
+     * are absent or fail the integrity check (caller falls back to the JWT).
+     */
+    public String resolveEmail(HttpServletRequest request) {
+        if (signer == null) {
+            return null;
+        }
+        String email = request.getHeader(EdgeIdentitySigner.EMAIL_HEADER);
+        boolean valid = signer.isValid(
+                email,
+                request.getHeader(EdgeIdentitySigner.ROLE_HEADER),
+                request.getHeader(EdgeIdentitySigner.EXPIRES_HEADER),
+                request.getHeader(EdgeIdentitySigner.SIGNATURE_HEADER));
+        return valid ? email : null;
+    }
+}
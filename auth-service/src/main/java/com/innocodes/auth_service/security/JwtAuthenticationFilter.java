@@ -20,10 +20,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final EdgeIdentityResolver edgeIdentityResolver;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   EdgeIdentityResolver edgeIdentityResolver) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.edgeIdentityResolver = edgeIdentityResolver;
     }
 
     @Override
@@ -33,20 +36,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        final String authHeader = request.getHeader("Authorization");
+        // 🔹 Gateway already verified the token: trust its signed identity headers
+        final String edgeEmail = edgeIdentityResolver.resolveEmail(request);
+        String token = null;
+        String email = edgeEmail;
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        if (edgeEmail == null) {
+            final String authHeader = request.getHeader("Authorization");
+
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-        final String token = authHeader.substring(7);
-        final String email = jwtUtil.extractEmail(token);
+            token = authHeader.substring(7);
+            try {
+                email = jwtUtil.extractEmail(token);
+            } catch (RuntimeException e) {
+                // 🔹 Bad or expired token: continue unauthenticated, Spring Security rejects the request
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
 
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
-            if (jwtUtil.isTokenValid(token, userDetails.getUsername())) {
+            if (edgeEmail != null || jwtUtil.isTokenValid(token, userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -1,16 +1,22 @@
 package com.innocodes.auth_service.security;
 
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import com.innocodes.jwt_core.JwtClaims;
+import com.innocodes.jwt_core.JwtMinter;
+import com.innocodes.jwt_core.JwtVerifier;
+import com.innocodes.jwt_core.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Map;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     @Value("${jwt.secret}")
     private String secret;
@@ -18,40 +24,50 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long jwtExpirationInMs;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // Shared jwt-core verifier/minter: key and per-thread Mac are set up once
+    private VerifiedTokenCache tokenCache;
+    private JwtVerifier verifier;
+    private JwtMinter minter;
+
+    @PostConstruct
+    void init() {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        tokenCache = new VerifiedTokenCache(cacheMaxSize);
+        verifier = new JwtVerifier(key, tokenCache);
+        minter = new JwtMinter(key, jwtExpirationInMs);
     }
 
     // ✅ Generate token with claims
     public String generateToken(Map<String, Object> claims) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + jwtExpirationInMs);
-
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+        return minter.mint(claims);
     }
 
-    // ✅ Extract all claims
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // ✅ Extract all claims (verified once per distinct token, then served from cache)
+    private JwtClaims extractAllClaims(String token) {
+        return verifier.verify(token);
     }
 
     // ✅ Extract email from token
     public String extractEmail(String token) {
-        return extractAllClaims(token).get("email", String.class);
+        return extractAllClaims(token).getEmail();
     }
 
     // ✅ Extract role from token
     public String extractRole(String token) {
-        return extractAllClaims(token).get("role", String.class);
+        return extractAllClaims(token).getRole();
+    }
+
+    // ✅ Extract token id (jti) used for revocation
+    public String extractJwtId(String token) {
+        return extractAllClaims(token).getJwtId();
+    }
+
+    // ✅ Extract expiry
+    public Date extractExpiration(String token) {
+        return extractAllClaims(token).getExpiration();
     }
 
     // ✅ Validate token
@@ -64,4 +80,9 @@ public class JwtUtil {
         Date expiration = extractAllClaims(token).getExpiration();
         return expiration.before(new Date());
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokenCache.nativeCache(), "jwt.verified-tokens");
+    }
 }
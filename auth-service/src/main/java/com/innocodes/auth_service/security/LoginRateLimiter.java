@@ -0,0 +1,186 @@
+package com.innocodes.auth_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innocodes.auth_service.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process login throttle applied before any password hashing.
+ * <p>
+ * Each client IP and each account email has a token bucket; accounts additionally
+ * get a progressive lockout (doubling per failure past the threshold). Buckets live in
+ * size-bounded caches with idle expiry so random-key floods cannot grow memory, and
+ * updates are guarded by a fixed array of lock stripes rather than one lock per key.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String REJECT_MESSAGE = "Too many login attempts, please retry later";
+
+    private static final class Bucket {
+        double tokens;
+        long lastRefillNanos;
+        int failures;
+        long lockedUntilNanos;
+
+        Bucket(double capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+    }
+
+    private final Cache<String, Bucket> ipBuckets;
+    private final Cache<String, Bucket> accountBuckets;
+    private final Object[] stripes;
+
+    private final double ipCapacity;
+    private final double ipRefillPerNano;
+    private final double accountCapacity;
+    private final double accountRefillPerNano;
+    private final int lockoutThreshold;
+    private final long lockoutBaseNanos;
+    private final long lockoutMaxNanos;
+
+    private final Counter ipRejects;
+    private final Counter accountRejects;
+    private final Counter lockoutRejects;
+
+    public LoginRateLimiter(MeterRegistry registry,
+                            @Value("${auth.login-limit.ip.capacity:30}") double ipCapacity,
+                            @Value("${auth.login-limit.ip.refill-per-second:1.0}") double ipRefillPerSecond,
+                            @Value("${auth.login-limit.account.capacity:5}") double accountCapacity,
+                            @Value("${auth.login-limit.account.refill-per-second:0.1}") double accountRefillPerSecond,
+                            @Value("${auth.login-limit.lockout.threshold:5}") int lockoutThreshold,
+                            @Value("${auth.login-limit.lockout.base:30s}") Duration lockoutBase,
+                            @Value("${auth.login-limit.lockout.max:15m}") Duration lockoutMax,
+                            @Value("${auth.login-limit.max-tracked-keys:100000}") long maxTrackedKeys,
+                            @Value("${auth.login-limit.idle-expiry:30m}") Duration idleExpiry,
+                            @Value("${auth.login-limit.lock-stripes:64}") int lockStripes) {
+        this.ipBuckets = Caffeine.newBuilder().maximumSize(maxTrackedKeys).expireAfterAccess(idleExpiry).build();
+        this.accountBuckets = Caffeine.newBuilder().maximumSize(maxTrackedKeys).expireAfterAccess(idleExpiry).build();
+        this.stripes = new Object[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new Object();
+        }
+
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerNano = ipRefillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPerNano = accountRefillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.lockoutThreshold = lockoutThreshold;
+        this.lockoutBaseNanos = lockoutBase.toNanos();
+        this.lockoutMaxNanos = lockoutMax.toNanos();
+
+        this.ipRejects = rejectCounter(registry, "ip");
+        this.accountRejects = rejectCounter(registry, "account");
+        this.lockoutRejects = rejectCounter(registry, "lockout");
+        Gauge.builder("auth.login.tracked-keys", ipBuckets, Cache::estimatedSize).tag("key", "ip").register(registry);
+        Gauge.builder("auth.login.tracked-keys", accountBuckets, Cache::estimatedSize).tag("key", "account").register(registry);
+    }
+
+    /**
+     * Consumes one attempt for the IP and the account, or throws {@link TooManyRequestsException}.
+     * Must be called before the password is checked.
+     */
+    public void checkAllowed(String clientIp, String email) {
+        long now = System.nanoTime();
+        String account = normalize(email);
+
+        Bucket accountBucket = accountBuckets.get(account, k -> new Bucket(accountCapacity, now));
+        long retryAfterNanos;
+        synchronized (stripeFor(account)) {
+            retryAfterNanos = accountBucket.lockedUntilNanos - now;
+        }
+        if (retryAfterNanos > 0) {
+            lockoutRejects.increment();
+            throw new TooManyRequestsException(REJECT_MESSAGE, toRetryAfterSeconds(retryAfterNanos));
+        }
+
+        if (clientIp != null) {
+            Bucket ipBucket = ipBuckets.get(clientIp, k -> new Bucket(ipCapacity, now));
+            retryAfterNanos = tryConsume(clientIp, ipBucket, ipCapacity, ipRefillPerNano, now);
+            if (retryAfterNanos > 0) {
+                ipRejects.increment();
+                throw new TooManyRequestsException(REJECT_MESSAGE, toRetryAfterSeconds(retryAfterNanos));
+            }
+        }
+
+        retryAfterNanos = tryConsume(account, accountBucket, accountCapacity, accountRefillPerNano, now);
+        if (retryAfterNanos > 0) {
+            accountRejects.increment();
+            throw new TooManyRequestsException(REJECT_MESSAGE, toRetryAfterSeconds(retryAfterNanos));
+        }
+    }
+
+    // ❌ Wrong password or unknown email: past the threshold, lock the account for base * 2^(excess)
+    public void recordFailure(String email) {
+        long now = System.nanoTime();
+        String account = normalize(email);
+        Bucket bucket = accountBuckets.get(account, k -> new Bucket(accountCapacity, now));
+        synchronized (stripeFor(account)) {
+            bucket.failures++;
+            int excess = bucket.failures - lockoutThreshold;
+            if (excess >= 0) {
+                int shift = Math.min(excess, 30);
+                long lockNanos = lockoutBaseNanos > (lockoutMaxNanos >>> shift) ? lockoutMaxNanos : lockoutBaseNanos << shift;
+                bucket.lockedUntilNanos = now + lockNanos;
+            }
+        }
+    }
+
+    // ✅ Successful login clears the failure streak
+    public void recordSuccess(String email) {
+        String account = normalize(email);
+        Bucket bucket = accountBuckets.getIfPresent(account);
+        if (bucket != null) {
+            synchronized (stripeFor(account)) {
+                bucket.failures = 0;
+                bucket.lockedUntilNanos = 0;
+            }
+        }
+    }
+
+    // Returns 0 when a token was taken, otherwise the wait until one is available
+    private long tryConsume(String key, Bucket bucket, double capacity, double refillPerNano, long now) {
+        synchronized (stripeFor(key)) {
+            long elapsed = now - bucket.lastRefillNanos;
+            if (elapsed > 0) {
+                bucket.tokens = Math.min(capacity, bucket.tokens + elapsed * refillPerNano);
+                bucket.lastRefillNanos = now;
+            }
+            if (bucket.tokens >= 1.0) {
+                bucket.tokens -= 1.0;
+                return 0;
+            }
+            return (long) Math.ceil((1.0 - bucket.tokens) / refillPerNano);
+        }
+    }
+
+    private Object stripeFor(String key) {
+        return stripes[(key.hashCode() & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long toRetryAfterSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static Counter rejectCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("auth.login.rejected")
+                .description("Login attempts rejected before the password check")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.innocodes.auth_service.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Guards GET /api/v1/auth/revocations: only the api-gateway's revocation sync may list active
+ * revocations. It proves itself with a shared secret header; a blank secret denies everyone.
+ */
+@Component
+public class RevocationSyncAuthorization implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String SECRET_HEADER = "X-Revocation-Sync-Secret";
+
+    private final byte[] secret;
+
+    public RevocationSyncAuthorization(@Value("${jwt.revocation.sync-secret:}") String secret) {
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isSyncClient(context.getRequest()));
+    }
+
+    boolean isSyncClient(HttpServletRequest request) {
+        String presented = request.getHeader(SECRET_HEADER);
+        return secret.length > 0 && presented != null
+                && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
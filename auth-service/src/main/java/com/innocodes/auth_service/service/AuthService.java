@@ -1,11 +1,15 @@
 package com.innocodes.auth_service.service;
 
 import com.innocodes.auth_service.dto.request.LoginRequest;
+import com.innocodes.auth_service.dto.request.PasswordResetRequest;
 import com.innocodes.auth_service.dto.request.UserRequest;
 import com.innocodes.auth_service.dto.response.ApiResponse;
 import com.innocodes.auth_service.dto.response.AuthResponse;
+import com.innocodes.auth_service.dto.response.RevokedTokenResponse;
 import com.innocodes.auth_service.dto.response.UserResponse;
 
+import java.util.List;
+
 public interface AuthService {
 
     /**
@@ -21,10 +25,35 @@ public interface AuthService {
     /**
      * Authenticates a user and returns a JWT token.
      *
-     * @param request Login credentials
+     * @param request  Login credentials
+     * @param clientIp Caller address, used for per-IP throttling
      * @return AuthResponse containing JWT token and user data
      */
-    AuthResponse login(LoginRequest request);
+    AuthResponse login(LoginRequest request, String clientIp);
+
+    /**
+     * Replaces the caller's password; the only way into an account created without one.
+     *
+     * @param request  Email, current (or default) password and the new password
+     * @param clientIp Caller address, used for per-IP throttling
+     * @return ApiResponse confirming the change
+     */
+    ApiResponse<Void> resetPassword(PasswordResetRequest request, String clientIp);
+
+    /**
+     * Revokes the given token so the gateway rejects it before its natural expiry.
+     *
+     * @param token JWT token of the caller
+     * @return ApiResponse confirming the logout
+     */
+    ApiResponse<Void> logout(String token);
+
+    /**
+     * Lists revoked tokens that have not expired yet; polled by the api-gateway.
+     *
+     * @return ApiResponse containing the active revocations
+     */
+    ApiResponse<List<RevokedTokenResponse>> getActiveRevocations();
 }
 
 
@@ -1,23 +1,36 @@
 package com.innocodes.auth_service.service.impl;
 
 import com.innocodes.auth_service.dto.request.LoginRequest;
+import com.innocodes.auth_service.dto.request.PasswordResetRequest;
 import com.innocodes.auth_service.dto.request.UserRequest;
 import com.innocodes.auth_service.dto.response.ApiResponse;
 import com.innocodes.auth_service.dto.response.AuthResponse;
+import com.innocodes.auth_service.dto.response.RevokedTokenResponse;
 import com.innocodes.auth_service.dto.response.UserResponse;
+import com.innocodes.auth_service.entity.RevokedToken;
 import com.innocodes.auth_service.entity.User;
 import com.innocodes.auth_service.exceptions.CustomException;
+import com.innocodes.auth_service.repository.RevokedTokenRepository;
 import com.innocodes.auth_service.repository.UserRepository;
 import com.innocodes.auth_service.service.AuthService;
+import com.innocodes.auth_service.security.BoundedBCryptPasswordEncoder;
+import com.innocodes.auth_service.security.CustomUserDetailsService;
 import com.innocodes.auth_service.security.JwtUtil;
+import com.innocodes.auth_service.security.LoginRateLimiter;
 import com.innocodes.auth_service.util.RoleValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.innocodes.jwt_core.JwtVerificationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -25,10 +38,16 @@ import java.util.Map;
 @Slf4j
 public class AuthServiceImpl implements AuthService {
 
+    // Handed out by admins for accounts created without a password; only good for setting a new one
+    private static final String DEFAULT_PASSWORD = "password123";
+
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedBCryptPasswordEncoder passwordEncoder;
     private final RoleValidator roleValidator;
+    private final CustomUserDetailsService userDetailsService;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final LoginRateLimiter loginRateLimiter;
 
     public ApiResponse<UserResponse> registerUser(UserRequest request, String email, String token) {
         roleValidator.checkIfAdmin(token);
@@ -37,7 +56,7 @@ public class AuthServiceImpl implements AuthService {
             throw new CustomException("Email already exists");
         }
 
-        String defaultPassword = request.getPassword() != null ? request.getPassword() : "password123";
+        String defaultPassword = request.getPassword() != null ? request.getPassword() : DEFAULT_PASSWORD;
 
         User user = User.builder()
                 .firstName(request.getFirstName())
@@ -51,6 +70,7 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
 
         UserResponse response = UserResponse.builder()
                 .id(user.getId())
@@ -69,19 +89,39 @@ public class AuthServiceImpl implements AuthService {
     /**
      * Login endpoint for all users.
      */
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
         log.info("Login attempt for user: {}", request.getEmail());
 
+        // 🚦 Throttle before any DB or bcrypt work; rejected attempts never reach the encoder
+        loginRateLimiter.checkAllowed(clientIp, request.getEmail());
+
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> {
                     log.warn("Login failed for email: {}", request.getEmail());
+                    loginRateLimiter.recordFailure(request.getEmail());
                     return new CustomException("Invalid email or password");
                 });
 
+        if (User.PASSWORD_RESET_REQUIRED.equals(user.getPassword())) {
+            // 🔑 Imported account: the default password only unlocks the set-password step
+            if (!isDefaultPassword(request.getPassword())) {
+                log.warn("Invalid password attempt for user: {}", request.getEmail());
+                loginRateLimiter.recordFailure(request.getEmail());
+                throw new CustomException("Invalid email or password");
+            }
+            throw new CustomException("Password reset required: set a new password at /api/v1/auth/password");
+        }
+
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             log.warn("Invalid password attempt for user: {}", request.getEmail());
+            loginRateLimiter.recordFailure(request.getEmail());
             throw new CustomException("Invalid email or password");
         }
+        loginRateLimiter.recordSuccess(request.getEmail());
+
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehashPassword(user.getId(), user.getEmail(), user.getPassword(), request.getPassword());
+        }
 
         Map<String, Object> claims = Map.of(
                 "email", user.getEmail(),
@@ -102,4 +142,122 @@ public class AuthServiceImpl implements AuthService {
                 .data(data)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets a new password after checking the current one. For accounts stored with
+     * {@link User#PASSWORD_RESET_REQUIRED} the current password is the default one.
+     */
+    public ApiResponse<Void> resetPassword(PasswordResetRequest request, String clientIp) {
+        loginRateLimiter.checkAllowed(clientIp, request.getEmail());
+
+        User user = userRepository.findByEmail(request.getEmail())
+                .orElseThrow(() -> {
+                    loginRateLimiter.recordFailure(request.getEmail());
+                    return new CustomException("Invalid email or password");
+                });
+
+        String currentHash = user.getPassword();
+        boolean resetRequired = User.PASSWORD_RESET_REQUIRED.equals(currentHash);
+        if (resetRequired ? !isDefaultPassword(request.getCurrentPassword())
+                : !passwordEncoder.matches(request.getCurrentPassword(), currentHash)) {
+            log.warn("Invalid password attempt for user: {}", request.getEmail());
+            loginRateLimiter.recordFailure(request.getEmail());
+            throw new CustomException("Invalid email or password");
+        }
+        loginRateLimiter.recordSuccess(request.getEmail());
+
+        if (request.getNewPassword().equals(request.getCurrentPassword()) || isDefaultPassword(request.getNewPassword())) {
+            throw new CustomException("New password must differ from the current and the default password");
+        }
+
+        // Compare-and-set: a concurrent reset or rehash wins, this one asks the user to retry
+        if (userRepository.replacePasswordHash(user.getId(), currentHash, passwordEncoder.encode(request.getNewPassword())) != 1) {
+            throw new CustomException("Password was changed meanwhile, please retry");
+        }
+        userDetailsService.evict(user.getEmail());
+
+        log.info("Password set for user '{}'{}", request.getEmail(), resetRequired ? " (first login)" : "");
+        return ApiResponse.success("Password updated", null);
+    }
+
+    /**
+     * Logout: records the token's jti until its expiry so the gateway stops accepting it.
+     */
+    public ApiResponse<Void> logout(String token) {
+        String jti;
+        String email;
+        Date expiration;
+        try {
+            jti = jwtUtil.extractJwtId(token);
+            email = jwtUtil.extractEmail(token);
+            expiration = jwtUtil.extractExpiration(token);
+        } catch (JwtVerificationException e) {
+            throw new CustomException("Invalid or expired token");
+        }
+
+        if (jti == null) {
+            throw new CustomException("Token cannot be revoked");
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .email(email)
+                .expiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+
+        log.info("Token revoked for user '{}'", email);
+        return ApiResponse.success("Logout successful", null);
+    }
+
+    /**
+     * Revocations the gateway still needs to enforce (expired tokens are rejected anyway).
+     */
+    public ApiResponse<List<RevokedTokenResponse>> getActiveRevocations() {
+        List<RevokedTokenResponse> revocations = revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now())
+                .stream()
+                .map(r -> RevokedTokenResponse.builder()
+                        .jti(r.getJti())
+                        .expiresAt(r.getExpiresAt().atZone(ZoneId.systemDefault()).toEpochSecond())
+                        .build())
+                .toList();
+        return ApiResponse.success("Active revocations", revocations);
+    }
+
+    // 🧹 Drop revocations whose tokens have expired on their own
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:1h}")
+    public void purgeExpiredRevocations() {
+        int purged = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired token revocations", purged);
+        }
+    }
+
+    // Constant-time, like a hash comparison, so response timing says nothing about the input
+    private static boolean isDefaultPassword(String rawPassword) {
+        return rawPassword != null && MessageDigest.isEqual(
+                rawPassword.getBytes(StandardCharsets.UTF_8), DEFAULT_PASSWORD.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Re-encodes the password with the current BCrypt cost after a successful login.
+     * Fire-and-forget on the hashing pool, so login does not pay for the second hash; if the
+     * pool is busy, or the password changed meanwhile, the upgrade waits for the next login.
+     */
+    private void rehashPassword(Long userId, String email, String currentHash, String rawPassword) {
+        passwordEncoder.encodeInBackground(rawPassword).whenComplete((newHash, error) -> {
+            if (error != null) {
+                log.debug("Skipping password rehash for {}: {}", email, error.getMessage());
+                return;
+            }
+            try {
+                if (userRepository.replacePasswordHash(userId, currentHash, newHash) == 1) {
+                    userDetailsService.evict(email);
+                    log.info("Password hash upgraded to current cost for user: {}", email);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Password rehash failed for user: {}", email, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.innocodes.auth_service.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ClientIpResolver {
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${auth.trusted-proxies:127.0.0.1,::1}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    /**
+     * Client address for rate limiting. X-Forwarded-For is only believed when the peer is a
+     * configured proxy (the api-gateway); its last hop is then the address that proxy saw.
+     * Any other peer may have written the header itself, so its own address is used.
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        String lastHop = hops[hops.length - 1].trim();
+        return lastHop.isEmpty() ? remoteAddr : lastHop;
+    }
+
+    private boolean isTrustedProxy(String remoteAddr) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            if (proxy.matches(remoteAddr)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
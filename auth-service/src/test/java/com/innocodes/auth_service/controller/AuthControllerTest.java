@@ -9,6 +9,7 @@ import com.innocodes.auth_service.dto.response.UserResponse;
 import com.innocodes.auth_service.enums.Role;
 import com.innocodes.auth_service.service.AuthService;
 import com.innocodes.auth_service.security.JwtUtil;
+import com.innocodes.auth_service.util.ClientIpResolver;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
@@ -39,6 +40,9 @@ class AuthControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private ClientIpResolver clientIpResolver;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -51,7 +55,7 @@ class AuthControllerTest {
                 .data(Map.of("token", "mocked-jwt"))
                 .build();
 
-        Mockito.when(authService.login(ArgumentMatchers.any(LoginRequest.class))).thenReturn(mockResponse);
+        Mockito.when(authService.login(ArgumentMatchers.any(LoginRequest.class), ArgumentMatchers.any())).thenReturn(mockResponse);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,81 @@
+package com.innocodes.auth_service.security;
+
+import com.innocodes.auth_service.exceptions.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedBCryptPasswordEncoderTest {
+
+    private BoundedBCryptPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_ShouldRoundTrip() {
+        encoder = new BoundedBCryptPasswordEncoder(Duration.ZERO, 4, 4, 1, 4, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(4, BoundedBCryptPasswordEncoder.costOf(hash));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldFlagOnlyHashesWithLowerCost() {
+        encoder = new BoundedBCryptPasswordEncoder(Duration.ZERO, 5, 5, 1, 4, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        assertTrue(encoder.upgradeEncoding("$2a$04$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+        // a replica that calibrated higher wrote this one; downgrading it would flip-flop between nodes
+        assertFalse(encoder.upgradeEncoding("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void encodeInBackground_ShouldHashOnThePool_AndFailWhenItCannotRun() {
+        encoder = new BoundedBCryptPasswordEncoder(Duration.ZERO, 4, 4, 1, 4, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        assertTrue(encoder.matches("secret", encoder.encodeInBackground("secret").join()));
+
+        encoder.shutdown();
+        CompletableFuture<String> rejected = encoder.encodeInBackground("secret");
+        CompletionException ex = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(ServiceBusyException.class, ex.getCause());
+    }
+
+    @Test
+    void calibrateCost_ShouldStayWithinBounds() {
+        assertEquals(4, BoundedBCryptPasswordEncoder.calibrateCost(Duration.ZERO, 4, 12));
+        assertEquals(6, BoundedBCryptPasswordEncoder.calibrateCost(Duration.ofHours(1), 4, 6));
+    }
+
+    @Test
+    void encode_ShouldFailFast_WhenPoolAndQueueAreFull() throws InterruptedException {
+        encoder = new BoundedBCryptPasswordEncoder(Duration.ZERO, 13, 13, 1, 1, Duration.ofSeconds(30), Duration.ofSeconds(2));
+
+        // one running + one queued hash saturate the pool; the next call must be rejected
+        List<CompletableFuture<String>> inFlight = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            inFlight.add(CompletableFuture.supplyAsync(() -> encoder.encode("secret")));
+        }
+        Thread.sleep(100);
+
+        ServiceBusyException ex = assertThrows(ServiceBusyException.class, () -> encoder.encode("secret"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        inFlight.forEach(CompletableFuture::join);
+    }
+}
@@ -0,0 +1,60 @@
+package com.innocodes.auth_service.security;
+
+import com.innocodes.auth_service.entity.User;
+import com.innocodes.auth_service.enums.Role;
+import com.innocodes.auth_service.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    private UserRepository userRepository;
+    private CustomUserDetailsService userDetailsService;
+
+    private final User user = new User(1L, "John", "Doe", "john@example.com", "encoded", Role.EMPLOYEE, 1L, "ACTIVE", LocalDateTime.now());
+
+    @BeforeEach
+    void setup() {
+        userRepository = mock(UserRepository.class);
+        userDetailsService = new CustomUserDetailsService(userRepository, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void loadUserByUsername_ShouldHitDatabaseOnce_WhenCalledRepeatedly() {
+        when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("john@example.com");
+        userDetailsService.loadUserByUsername("john@example.com");
+
+        verify(userRepository, times(1)).findByEmail("john@example.com");
+    }
+
+    @Test
+    void evict_ShouldForceReload() {
+        when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("john@example.com");
+        userDetailsService.evict("john@example.com");
+        userDetailsService.loadUserByUsername("john@example.com");
+
+        verify(userRepository, times(2)).findByEmail("john@example.com");
+    }
+
+    @Test
+    void loadUserByUsername_ShouldNotCacheMissingUser() {
+        when(userRepository.findByEmail("new@example.com"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("new@example.com"));
+        assertNotNull(userDetailsService.loadUserByUsername("new@example.com"));
+    }
+}
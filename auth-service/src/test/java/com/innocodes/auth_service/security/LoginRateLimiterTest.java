@@ -0,0 +1,66 @@
+package com.innocodes.auth_service.security;
+
+import com.innocodes.auth_service.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private LoginRateLimiter limiter(double ipCapacity, double accountCapacity, int lockoutThreshold) {
+        return new LoginRateLimiter(registry, ipCapacity, 0.001, accountCapacity, 0.001,
+                lockoutThreshold, Duration.ofSeconds(30), Duration.ofMinutes(15),
+                1000, Duration.ofMinutes(30), 16);
+    }
+
+    @Test
+    void checkAllowed_ShouldRejectOnceIpBucketIsEmpty() {
+        LoginRateLimiter limiter = limiter(3, 100, 100);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAllowed("10.0.0.1", "user" + i + "@company.com");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.checkAllowed("10.0.0.1", "other@company.com"));
+        assertDoesNotThrow(() -> limiter.checkAllowed("10.0.0.2", "other@company.com"));
+        assertEquals(1.0, registry.get("auth.login.rejected").tag("reason", "ip").counter().count());
+    }
+
+    @Test
+    void checkAllowed_ShouldRejectOnceAccountBucketIsEmpty_RegardlessOfIp() {
+        LoginRateLimiter limiter = limiter(100, 2, 100);
+
+        limiter.checkAllowed("10.0.0.1", "john@company.com");
+        limiter.checkAllowed("10.0.0.2", "John@Company.com");
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.checkAllowed("10.0.0.3", "john@company.com"));
+        assertEquals(1.0, registry.get("auth.login.rejected").tag("reason", "account").counter().count());
+    }
+
+    @Test
+    void recordFailure_ShouldLockAccountAfterThreshold_AndSuccessShouldReset() {
+        LoginRateLimiter limiter = limiter(100, 100, 3);
+
+        limiter.recordFailure("john@company.com");
+        limiter.recordFailure("john@company.com");
+        assertDoesNotThrow(() -> limiter.checkAllowed("10.0.0.1", "john@company.com"));
+
+        limiter.recordFailure("john@company.com");
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> limiter.checkAllowed("10.0.0.1", "john@company.com"));
+        assertTrue(ex.getRetryAfterSeconds() >= 29);
+
+        // next failure doubles the lock
+        limiter.recordFailure("john@company.com");
+        ex = assertThrows(TooManyRequestsException.class, () -> limiter.checkAllowed("10.0.0.1", "john@company.com"));
+        assertTrue(ex.getRetryAfterSeconds() >= 59);
+
+        limiter.recordSuccess("john@company.com");
+        assertDoesNotThrow(() -> limiter.checkAllowed("10.0.0.1", "john@company.com"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.innocodes.auth_service.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationSyncAuthorizationTest {
+
+    // ✅ Only a request carrying the configured secret may list revocations
+    @Test
+    void isSyncClient_ShouldRequireTheSharedSecret() {
+        RevocationSyncAuthorization authorization = new RevocationSyncAuthorization("sync-secret");
+
+        assertTrue(authorization.isSyncClient(request("sync-secret")));
+        assertFalse(authorization.isSyncClient(request("other")));
+        assertFalse(authorization.isSyncClient(request(null)));
+    }
+
+    // ✅ Without a configured secret nobody gets in, not even an empty header
+    @Test
+    void isSyncClient_ShouldDenyEveryone_WhenNoSecretIsConfigured() {
+        RevocationSyncAuthorization authorization = new RevocationSyncAuthorization("");
+
+        assertFalse(authorization.isSyncClient(request("")));
+        assertFalse(authorization.isSyncClient(request(null)));
+    }
+
+    private static MockHttpServletRequest request(String secret) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/revocations");
+        if (secret != null) {
+            request.addHeader(RevocationSyncAuthorization.SECRET_HEADER, secret);
+        }
+        return request;
+    }
+}
@@ -9,13 +9,16 @@ import com.innocodes.auth_service.dto.response.UserResponse;
 import com.innocodes.auth_service.entity.User;
 import com.innocodes.auth_service.enums.Role;
 import com.innocodes.auth_service.exceptions.CustomException;
+import com.innocodes.auth_service.repository.RevokedTokenRepository;
 import com.innocodes.auth_service.repository.UserRepository;
+import com.innocodes.auth_service.security.CustomUserDetailsService;
 import com.innocodes.auth_service.security.JwtUtil;
+import com.innocodes.auth_service.security.LoginRateLimiter;
 import com.innocodes.auth_service.util.RoleValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.innocodes.auth_service.security.BoundedBCryptPasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -27,8 +30,11 @@ class AuthServiceTest {
 
     @Mock private UserRepository userRepository;
     @Mock private JwtUtil jwtUtil;
-    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private BoundedBCryptPasswordEncoder passwordEncoder;
     @Mock private RoleValidator roleValidator;
+    @Mock private CustomUserDetailsService userDetailsService;
+    @Mock private RevokedTokenRepository revokedTokenRepository;
+    @Mock private LoginRateLimiter loginRateLimiter;
 
     @InjectMocks private AuthService authService;
 
@@ -75,7 +81,7 @@ class AuthServiceTest {
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(jwtUtil.generateToken(anyMap())).thenReturn("jwt-token");
 
-        AuthResponse response = authService.login(request);
+        AuthResponse response = authService.login(request, "127.0.0.1");
 
         assertEquals("Login successful", response.getMessage());
         Map<String, Object> data = (Map<String, Object>) response.getData();
@@ -92,7 +98,7 @@ class AuthServiceTest {
         when(passwordEncoder.matches(request.getPassword(), user.getPassword()))
                 .thenReturn(false); // 👈 simulate mismatch
 
-        assertThrows(CustomException.class, () -> authService.login(request));
+        assertThrows(CustomException.class, () -> authService.login(request, "127.0.0.1"));
     }
 
     @Test
@@ -105,7 +111,7 @@ class AuthServiceTest {
                 .thenReturn(true); // 👈 simulate correct password
         when(jwtUtil.generateToken(anyMap())).thenReturn("mocked-token");
 
-        AuthResponse response = authService.login(request);
+        AuthResponse response = authService.login(request, "127.0.0.1");
 
         assertEquals("Login successful", response.getMessage());
         Map<String, Object> data = (Map<String, Object>) response.getData();
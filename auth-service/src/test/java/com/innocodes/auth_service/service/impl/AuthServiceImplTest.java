@@ -0,0 +1,249 @@
+package com.innocodes.auth_service.service.impl;
+
+import com.innocodes.auth_service.dto.request.LoginRequest;
+import com.innocodes.auth_service.dto.request.PasswordResetRequest;
+import com.innocodes.auth_service.dto.response.AuthResponse;
+import com.innocodes.auth_service.entity.User;
+import com.innocodes.auth_service.enums.Role;
+import com.innocodes.auth_service.exceptions.CustomException;
+import com.innocodes.auth_service.exceptions.ServiceBusyException;
+import com.innocodes.auth_service.exceptions.TooManyRequestsException;
+import com.innocodes.auth_service.repository.RevokedTokenRepository;
+import com.innocodes.auth_service.repository.UserRepository;
+import com.innocodes.auth_service.security.BoundedBCryptPasswordEncoder;
+import com.innocodes.auth_service.security.CustomUserDetailsService;
+import com.innocodes.auth_service.security.JwtUtil;
+import com.innocodes.auth_service.security.LoginRateLimiter;
+import com.innocodes.auth_service.util.RoleValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Plain Mockito, no Spring context: the encoder and the rate limiter are mocks, so every call is visible;
+// a test-held CompletableFuture stands in for the background rehash, so its completion is under test control
+class AuthServiceImplTest {
+
+    private static final String IP = "10.0.0.7";
+    private static final String EMAIL = "john@company.com";
+    private static final String STORED_HASH = "$2a$10$stored";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private BoundedBCryptPasswordEncoder passwordEncoder;
+
+    @Mock
+    private RoleValidator roleValidator;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    // ❌ A throttled attempt is refused before any lookup or BCrypt work
+    @Test
+    void login_ShouldStopAtTheLimiter_BeforeDbAndBcrypt() {
+        doThrow(new TooManyRequestsException("Too many login attempts", 30))
+                .when(loginRateLimiter).checkAllowed(IP, EMAIL);
+
+        assertThrows(TooManyRequestsException.class, () -> authService.login(new LoginRequest(EMAIL, "secret"), IP));
+
+        verifyNoInteractions(userRepository, passwordEncoder, jwtUtil);
+    }
+
+    // ❌ Wrong password: counted as a failure, never as a success, no token
+    @Test
+    void login_ShouldRecordFailure_OnWrongPassword() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(STORED_HASH)));
+        when(passwordEncoder.matches("wrong", STORED_HASH)).thenReturn(false);
+
+        CustomException ex = assertThrows(CustomException.class, () -> authService.login(new LoginRequest(EMAIL, "wrong"), IP));
+
+        assertEquals("Invalid email or password", ex.getMessage());
+        verify(loginRateLimiter).checkAllowed(IP, EMAIL);
+        verify(loginRateLimiter).recordFailure(EMAIL);
+        verify(loginRateLimiter, never()).recordSuccess(anyString());
+        verifyNoInteractions(jwtUtil);
+    }
+
+    // ❌ Unknown email: same answer and the same failure count as a wrong password
+    @Test
+    void login_ShouldRecordFailure_OnUnknownEmail() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(CustomException.class, () -> authService.login(new LoginRequest(EMAIL, "secret"), IP));
+
+        verify(loginRateLimiter).recordFailure(EMAIL);
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    // ✅ Current-cost hash: token issued, success recorded, no rehash
+    @Test
+    void login_ShouldIssueToken_WithoutRehash_WhenHashIsCurrent() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(STORED_HASH)));
+        when(passwordEncoder.matches("secret", STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(STORED_HASH)).thenReturn(false);
+        when(jwtUtil.generateToken(anyMap())).thenReturn("jwt");
+
+        AuthResponse response = authService.login(new LoginRequest(EMAIL, "secret"), IP);
+
+        Map<?, ?> data = (Map<?, ?>) response.getData();
+        assertEquals("jwt", data.get("token"));
+        assertNull(((User) data.get("user")).getPassword());
+        verify(loginRateLimiter).recordSuccess(EMAIL);
+        verify(passwordEncoder, never()).encodeInBackground(any());
+    }
+
+    // ✅ Weaker hash: rehashed in the background, swapped in by compare-and-set against the hash that was verified
+    @Test
+    void login_ShouldRehashInBackground_AndSwapByCas() {
+        CompletableFuture<String> rehash = new CompletableFuture<>();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(STORED_HASH)));
+        when(passwordEncoder.matches("secret", STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeInBackground("secret")).thenReturn(rehash);
+        when(userRepository.replacePasswordHash(1L, STORED_HASH, "$2a$12$upgraded")).thenReturn(1);
+        when(jwtUtil.generateToken(anyMap())).thenReturn("jwt");
+
+        authService.login(new LoginRequest(EMAIL, "secret"), IP);
+
+        // Login returned before the hash was ready: nothing written yet
+        verify(userRepository, never()).replacePasswordHash(anyLong(), anyString(), anyString());
+
+        rehash.complete("$2a$12$upgraded");
+
+        verify(userRepository).replacePasswordHash(1L, STORED_HASH, "$2a$12$upgraded");
+        verify(userDetailsService).evict(EMAIL);
+    }
+
+    // ✅ The password changed while the rehash ran: the CAS matches no row and nothing is evicted
+    @Test
+    void login_ShouldKeepConcurrentChange_WhenCasMisses() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(STORED_HASH)));
+        when(passwordEncoder.matches("secret", STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeInBackground("secret")).thenReturn(CompletableFuture.completedFuture("$2a$12$upgraded"));
+        when(userRepository.replacePasswordHash(1L, STORED_HASH, "$2a$12$upgraded")).thenReturn(0);
+        when(jwtUtil.generateToken(anyMap())).thenReturn("jwt");
+
+        assertEquals("Login successful", authService.login(new LoginRequest(EMAIL, "secret"), IP).getMessage());
+
+        verify(userDetailsService, never()).evict(anyString());
+    }
+
+    // ✅ Hashing pool busy: the upgrade is skipped, the login still succeeds
+    @Test
+    void login_ShouldSkipRehash_WhenPoolIsBusy() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(STORED_HASH)));
+        when(passwordEncoder.matches("secret", STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeInBackground("secret")).thenReturn(
+                CompletableFuture.failedFuture(new ServiceBusyException("busy", 1)));
+        when(jwtUtil.generateToken(anyMap())).thenReturn("jwt");
+
+        assertEquals("jwt", ((Map<?, ?>) authService.login(new LoginRequest(EMAIL, "secret"), IP).getData()).get("token"));
+
+        verify(userRepository, never()).replacePasswordHash(anyLong(), anyString(), anyString());
+        verify(loginRateLimiter).recordSuccess(EMAIL);
+    }
+
+    // ❌ Imported account: the default password is accepted only to ask for a new one, no token is issued
+    @Test
+    void login_ShouldRequireReset_ForImportedAccount() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(User.PASSWORD_RESET_REQUIRED)));
+
+        CustomException ex = assertThrows(CustomException.class,
+                () -> authService.login(new LoginRequest(EMAIL, "password123"), IP));
+
+        assertTrue(ex.getMessage().startsWith("Password reset required"));
+        verify(loginRateLimiter, never()).recordFailure(anyString());
+        verifyNoInteractions(passwordEncoder, jwtUtil);
+    }
+
+    // ❌ Imported account, wrong password: the usual failure, counted by the limiter
+    @Test
+    void login_ShouldRejectWrongPassword_ForImportedAccount() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(User.PASSWORD_RESET_REQUIRED)));
+
+        CustomException ex = assertThrows(CustomException.class,
+                () -> authService.login(new LoginRequest(EMAIL, "guess"), IP));
+
+        assertEquals("Invalid email or password", ex.getMessage());
+        verify(loginRateLimiter).recordFailure(EMAIL);
+    }
+
+    // ✅ First login of an imported account: the default password buys exactly one hash, swapped in by CAS
+    @Test
+    void resetPassword_ShouldReplaceMarker_WithNewHash() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(User.PASSWORD_RESET_REQUIRED)));
+        when(passwordEncoder.encode("n3w-secret")).thenReturn("$2a$12$new");
+        when(userRepository.replacePasswordHash(1L, User.PASSWORD_RESET_REQUIRED, "$2a$12$new")).thenReturn(1);
+
+        authService.resetPassword(new PasswordResetRequest(EMAIL, "password123", "n3w-secret"), IP);
+
+        verify(loginRateLimiter).checkAllowed(IP, EMAIL);
+        verify(loginRateLimiter).recordSuccess(EMAIL);
+        verify(passwordEncoder, never()).matches(any(), any());
+        verify(userDetailsService).evict(EMAIL);
+    }
+
+    // ❌ The default password can never become the real one
+    @Test
+    void resetPassword_ShouldRejectDefaultAsNewPassword() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(User.PASSWORD_RESET_REQUIRED)));
+
+        assertThrows(CustomException.class,
+                () -> authService.resetPassword(new PasswordResetRequest(EMAIL, "password123", "password123"), IP));
+
+        verify(userRepository, never()).replacePasswordHash(anyLong(), anyString(), anyString());
+    }
+
+    // ❌ Lost the compare-and-set to a concurrent change: nothing is overwritten, the caller retries
+    @Test
+    void resetPassword_ShouldFail_WhenHashChangedMeanwhile() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("$2a$10$old")));
+        when(passwordEncoder.matches("old-secret", "$2a$10$old")).thenReturn(true);
+        when(passwordEncoder.encode("n3w-secret")).thenReturn("$2a$12$new");
+        when(userRepository.replacePasswordHash(1L, "$2a$10$old", "$2a$12$new")).thenReturn(0);
+
+        CustomException ex = assertThrows(CustomException.class,
+                () -> authService.resetPassword(new PasswordResetRequest(EMAIL, "old-secret", "n3w-secret"), IP));
+
+        assertEquals("Password was changed meanwhile, please retry", ex.getMessage());
+        verify(userDetailsService, never()).evict(anyString());
+    }
+
+    private static User user(String password) {
+        return User.builder()
+                .id(1L).firstName("John").lastName("Doe").email(EMAIL).password(password)
+                .role(Role.EMPLOYEE).status("ACTIVE").createdAt(LocalDateTime.now())
+                .build();
+    }
+}
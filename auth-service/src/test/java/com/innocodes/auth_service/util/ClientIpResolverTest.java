@@ -0,0 +1,37 @@
+package com.innocodes.auth_service.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/24", "::1"));
+
+    // ✅ Behind the gateway, the last X-Forwarded-For hop is the client
+    @Test
+    void resolve_ShouldUseLastForwardedHop_WhenPeerIsTrustedProxy() {
+        assertEquals("203.0.113.7", resolver.resolve(request("10.0.0.5", "198.51.100.1, 203.0.113.7")));
+        assertEquals("203.0.113.7", resolver.resolve(request("0:0:0:0:0:0:0:1", "203.0.113.7")));
+    }
+
+    // ✅ A caller reaching the service directly cannot pick its own rate-limit bucket
+    @Test
+    void resolve_ShouldIgnoreForwardedFor_WhenPeerIsNotTrusted() {
+        assertEquals("192.0.2.50", resolver.resolve(request("192.0.2.50", "203.0.113.7")));
+        assertEquals("10.0.0.5", resolver.resolve(request("10.0.0.5", null)));
+        assertEquals("10.0.0.5", resolver.resolve(request("10.0.0.5", " , ")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
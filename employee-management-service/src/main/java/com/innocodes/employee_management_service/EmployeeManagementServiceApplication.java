@@ -3,10 +3,15 @@ package com.innocodes.employee_management_service;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC is only for the reactive read server, which builds its own pool (config/ReactiveReadConfig):
+// an auto-configured ConnectionFactory bean would switch off the JDBC DataSource that JPA runs on
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @EnableFeignClients
+@EnableScheduling
 @OpenAPIDefinition()
 public class EmployeeManagementServiceApplication {
 
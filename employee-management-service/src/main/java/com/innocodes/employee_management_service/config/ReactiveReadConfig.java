@@ -0,0 +1,74 @@
+package com.innocodes.employee_management_service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innocodes.employee_management_service.controller.ReactiveReadHandler;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking read stack, switched on by employee.reactive-reads.enabled: an R2DBC pool and a
+ * second HTTP server ({@link ReactiveReadServer}) for the GET endpoints of
+ * {@link ReactiveReadHandler}. The HTTP server and the Postgres driver share one small set of
+ * event-loop threads, so concurrent readers cost connections and memory, not threads. JPA, the
+ * JDBC pool and the servlet port are untouched and keep every write.
+ * <p>
+ * The pool is deliberately not a {@code ConnectionFactory} bean: one would make Spring Boot back
+ * off from the JDBC {@code DataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.reactive-reads.enabled", havingValue = "true")
+public class ReactiveReadConfig implements DisposableBean {
+
+    private final LoopResources loops;
+    private final ConnectionPool pool;
+
+    public ReactiveReadConfig(@Value("${employee.reactive-reads.event-loop-threads:4}") int eventLoopThreads,
+                              @Value("${employee.reactive-reads.r2dbc-url:r2dbc:postgresql://localhost:5432/employee_db}") String url,
+                              @Value("${spring.datasource.username}") String username,
+                              @Value("${spring.datasource.password}") String password,
+                              @Value("${employee.reactive-reads.pool-max-size:20}") int poolMaxSize) {
+        this.loops = LoopResources.create("reactive-reads", eventLoopThreads, true);
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .option(PostgresqlConnectionFactoryProvider.LOOP_RESOURCES, loops)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-reads")
+                .initialSize(Math.min(2, poolMaxSize))
+                .maxSize(poolMaxSize)
+                .maxIdleTime(Duration.ofMinutes(10))
+                .validationQuery("SELECT 1")
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveReadDatabaseClient() {
+        return DatabaseClient.create(pool);
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadHandler handler, ObjectMapper objectMapper,
+                                                 @Value("${employee.reactive-reads.port:8092}") int port) {
+        return new ReactiveReadServer(handler.routes(), objectMapper, loops, port);
+    }
+
+    // Runs after ReactiveReadServer has stopped taking requests
+    @Override
+    public void destroy() {
+        pool.dispose();
+        loops.dispose();
+    }
+}
@@ -0,0 +1,26 @@
+package com.innocodes.employee_management_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sizing for the Hibernate second-level cache regions.
+ *
+ * @param regions per-region bounds keyed by region name (entity regions and {@code default-query-results-region})
+ */
+@ConfigurationProperties(prefix = "employee.second-level-cache")
+public record SecondLevelCacheProperties(Map<String, Region> regions) {
+
+    public SecondLevelCacheProperties {
+        regions = regions == null ? Map.of() : Map.copyOf(regions);
+    }
+
+    /**
+     * @param maxSize entries kept before Caffeine starts evicting
+     * @param ttl     time-to-live after write; also bounds staleness against writes made by other instances or services
+     */
+    public record Region(long maxSize, Duration ttl) {
+    }
+}
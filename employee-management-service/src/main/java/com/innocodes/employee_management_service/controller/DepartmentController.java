@@ -1,14 +1,17 @@
 package com.innocodes.employee_management_service.controller;
 
 import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.request.DepartmentMoveRequest;
 import com.innocodes.employee_management_service.dto.request.DepartmentRequest;
 import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
 import com.innocodes.employee_management_service.service.DepartmentService;
-import com.innocodes.employee_management_service.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,72 +21,132 @@ import org.springframework.web.bind.annotation.*;
 public class DepartmentController {
 
     private final DepartmentService departmentService;
-    private final JwtUtil jwtUtil;
 
     // 1️⃣ Create new department
     @PostMapping
     public ResponseEntity<ApiResponse> createDepartment(
-            @RequestHeader("Authorization") String authorization,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @RequestBody DepartmentRequest request) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(departmentService.createDepartment(request, token, email));
+        return ResponseEntity.ok(departmentService.createDepartment(request, principal));
     }
 
     // 2️⃣ Update department
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse> updateDepartment(
-            @RequestHeader("Authorization") String authorization,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long id,
             @RequestBody DepartmentRequest request) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(departmentService.updateDepartment(id, request, email, token));
+        return ResponseEntity.ok(departmentService.updateDepartment(id, request, principal));
     }
 
     // 3️⃣ Delete department
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse> deleteDepartment(
-            @RequestHeader("Authorization") String authorization,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long id) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(departmentService.deleteDepartment(id, email, token));
+        return ResponseEntity.ok(departmentService.deleteDepartment(id, principal));
     }
 
+    // 📊 Headcount of every department by status and role
+    @GetMapping("/headcount")
+    public ResponseEntity<ApiResponse> getAllHeadcounts(
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+
+        return ResponseEntity.ok(departmentService.getAllHeadcounts(principal));
+    }
+
+    // 📊 Headcount of one department by status and role
+    @GetMapping("/{id}/headcount")
+    public ResponseEntity<ApiResponse> getHeadcount(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable Long id) {
+
+        return ResponseEntity.ok(departmentService.getHeadcount(id, principal));
+    }
+
+    // 🏷️ Conditional GET: 304 without building the response when If-None-Match still matches
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse> getDepartment(
-            @RequestHeader("Authorization") String authorization,
-            @PathVariable Long id) {
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable Long id,
+            WebRequest request) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(departmentService.getDepartmentById(id, email, token));
+        return departmentService.getDepartmentVersion(id, principal)
+                .respond(request, () -> departmentService.getDepartmentById(id, principal));
     }
 
-    // 4️⃣ View all departments
+    // 4️⃣ View all departments (conditional GET: one ETag covers every page)
     @GetMapping
     public ResponseEntity<ApiResponse> getAllDepartments(
-            @RequestHeader("Authorization") String authorization) {
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(departmentService.getAllDepartments(email, token));
+        return departmentService.getAllDepartmentsVersion(principal)
+                .respond(request, () -> departmentService.getAllDepartments(principal, after, limit));
     }
 
     @PostMapping("/{departmentId}/assign-manager/{managerId}")
     public ResponseEntity<ApiResponse<DepartmentResponse>> assignManagerToDepartment(
             @PathVariable Long departmentId,
             @PathVariable Long managerId,
-            @RequestHeader("Authorization") String authorization) {
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+
+        return ResponseEntity.ok(departmentService.assignManagerToDepartment(departmentId, managerId, principal.getEmail()));
+    }
+
+    // 🌳 Move a department and everything below it under another parent (omit parentId for top level)
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<ApiResponse> moveDepartment(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long parentId) {
+
+        return ResponseEntity.ok(departmentService.moveDepartment(id, parentId, principal));
+    }
+
+    // 🌳 All sub-departments, at any depth
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<ApiResponse> getDescendants(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable Long id) {
+
+        return ResponseEntity.ok(departmentService.getDescendants(id, principal));
+    }
+
+    // 🌳 Everyone in the department or any department below it
+    @GetMapping("/{id}/employees")
+    public ResponseEntity<ApiResponse> getSubtreeEmployees(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
 
-        String token = authorization.split(" ")[1];
-        String email = jwtUtil.extractEmail(token);
+        return ResponseEntity.ok(departmentService.getSubtreeEmployees(id, principal, after, limit));
+    }
+
+    // 🔀 Move all or filtered members to another department in one statement
+    @PostMapping("/{id}/move-members")
+    public ResponseEntity<ApiResponse> moveMembers(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable Long id,
+            @RequestBody DepartmentMoveRequest request) {
+
+        return ResponseEntity.ok(departmentService.moveMembers(id, request, principal));
+    }
+
+    // 🧹 Dissolve a department, reassigning its members (omit reassignTo to leave them unassigned)
+    @PostMapping("/{id}/dissolve")
+    public ResponseEntity<ApiResponse> dissolveDepartment(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long reassignTo) {
 
-        return ResponseEntity.ok(departmentService.assignManagerToDepartment(departmentId, managerId, email));
+        return ResponseEntity.ok(departmentService.dissolveDepartment(id, reassignTo, principal));
     }
 
 }
@@ -2,13 +2,26 @@ package com.innocodes.employee_management_service.controller;
 
 
 import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.request.EmployeeFilterRequest;
 import com.innocodes.employee_management_service.dto.request.EmployeeRequest;
+import com.innocodes.employee_management_service.enums.ExportFormat;
+import com.innocodes.employee_management_service.enums.ImportFormat;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeExportService;
+import com.innocodes.employee_management_service.service.EmployeeFilterService;
+import com.innocodes.employee_management_service.service.EmployeeImportService;
+import com.innocodes.employee_management_service.service.EmployeeSearchService;
 import com.innocodes.employee_management_service.service.EmployeeService;
-import com.innocodes.employee_management_service.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,64 +31,114 @@ import org.springframework.web.bind.annotation.*;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
-    private final JwtUtil jwtUtil;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeSearchService employeeSearchService;
+    private final EmployeeFilterService employeeFilterService;
 
     // 2️⃣ Update employee (Admin only)
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse> updateUser(
-            @RequestHeader("Authorization") String authorization,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long id,
             @RequestBody EmployeeRequest request) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(employeeService.updateUser(id, request, email, token));
+        return ResponseEntity.ok(employeeService.updateUser(id, request, principal));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse> deleteEmployee(
-            @RequestHeader("Authorization") String authorization,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long id) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(employeeService.deleteUser(id, email, token));
+        return ResponseEntity.ok(employeeService.deleteUser(id, principal));
     }
 
     // 4️⃣ View all employees (Admin only)
     @GetMapping("/all-employees")
     public ResponseEntity<ApiResponse> getAllEmployees(
-            @RequestHeader("Authorization") String authorization) {
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(employeeService.getAllUsers(email, token));
+        return ResponseEntity.ok(employeeService.getAllUsers(principal, after, limit));
+    }
+
+    // 📤 Export the full directory as CSV or NDJSON (Admin only), streamed row by row
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = employeeExportService.exportUsers(principal, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // 📥 Bulk import from a CSV or JSON-array upload (Admin only), with a result for every row
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse> importEmployees(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+
+        ImportFormat importFormat = format != null
+                ? ImportFormat.from(format)
+                : ImportFormat.fromFilename(file.getOriginalFilename());
+        return ResponseEntity.ok(employeeImportService.importUsers(principal, file, importFormat));
+    }
+
+    // 🔎 Type-ahead search on the start of first name, last name or email (Admin only), ranked and capped
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> searchEmployees(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(employeeSearchService.search(principal, query, limit));
+    }
+
+    // 🧮 Filter by status, role, departments and createdAt/updatedAt ranges (Admin only), keyset paged
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse> filterEmployees(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @ModelAttribute EmployeeFilterRequest filter) {
+
+        return ResponseEntity.ok(employeeFilterService.filterUsers(principal, filter));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse> getEmployees(
-            @RequestHeader("Authorization") String authorization, @PathVariable Long id) {
+            @AuthenticationPrincipal AuthenticatedUser principal, @PathVariable Long id,
+            WebRequest request) {
 
-        String token = authorization.substring(7);
-        String email = jwtUtil.extractEmail(token);
-        return ResponseEntity.ok(employeeService.getUser(email, token, id));
+        // 🏷️ Conditional GET: 304 without building the response when If-None-Match still matches
+        return employeeService.getUserVersion(principal, id)
+                .respond(request, () -> employeeService.getUser(principal, id));
     }
 
     // 5️⃣ View employees by department (Manager only)
     @GetMapping("/department/{id}")
     public ResponseEntity<ApiResponse> getEmployeesByDepartment(
-            @RequestHeader("Authorization") String authorization, @PathVariable Long id){
+            @AuthenticationPrincipal AuthenticatedUser principal, @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit){
 
-        String email = jwtUtil.extractEmail(authorization.substring(7));
-        return ResponseEntity.ok(employeeService.getUsersByDepartment(id, email));
+        return ResponseEntity.ok(employeeService.getUsersByDepartment(id, principal, after, limit));
     }
 
     // 6️⃣ View own profile (Employee)
     @GetMapping("/me")
     public ResponseEntity<ApiResponse> getMyProfile(
-            @RequestHeader("Authorization") String authorization) {
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            WebRequest request) {
 
-        String email = jwtUtil.extractEmail(authorization.substring(7));
-        return ResponseEntity.ok(employeeService.getMyProfile(email));
+        // 🏷️ Polled on every page load: unchanged profiles cost a 304 from the profile cache
+        return employeeService.getMyProfileVersion(principal.getEmail())
+                .respond(request, () -> employeeService.getMyProfile(principal.getEmail()));
     }
 }
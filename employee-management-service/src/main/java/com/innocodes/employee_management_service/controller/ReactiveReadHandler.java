@@ -0,0 +1,158 @@
+package com.innocodes.employee_management_service.controller;
+
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.exceptions.ErrorResponse;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.security.EdgeIdentityResolver;
+import com.innocodes.employee_management_service.security.JwtUtil;
+import com.innocodes.employee_management_service.service.ReactiveReadService;
+import com.innocodes.employee_management_service.utils.ResourceVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * WebFlux handlers for the GET endpoints served by the reactive read server
+ * (employee.reactive-reads). Paths, auth, responses and ETags are those of
+ * {@link EmployeeController} and {@link DepartmentController}; everything else, writes included,
+ * stays on the servlet port.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.reactive-reads.enabled", havingValue = "true")
+public class ReactiveReadHandler {
+
+    private static final String PRINCIPAL = AuthenticatedUser.class.getName();
+
+    private final ReactiveReadService readService;
+    private final JwtUtil jwtUtil;
+    private final EdgeIdentityResolver edgeIdentityResolver;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                // 6️⃣ View own profile (Employee); literal paths before /{id}
+                .GET("/api/v1/employees/me", this::getMyProfile)
+                // 4️⃣ View all employees (Admin only)
+                .GET("/api/v1/employees/all-employees", this::getAllEmployees)
+                // 5️⃣ View employees by department (Manager only)
+                .GET("/api/v1/employees/department/{id}", this::getEmployeesByDepartment)
+                .GET("/api/v1/employees/{id}", this::getEmployee)
+                // 4️⃣ View all departments (conditional GET: one ETag covers every page)
+                .GET("/api/v1/departments", this::getAllDepartments)
+                .GET("/api/v1/departments/{id}", this::getDepartment)
+                .filter(this::authenticate)
+                .onError(CustomException.class, (e, request) -> error(request, HttpStatus.BAD_REQUEST, e.getMessage()))
+                .onError(e -> true, (e, request) -> {
+                    log.error("Reactive read {} failed", request.path(), e);
+                    return error(request, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error");
+                })
+                .build();
+    }
+
+    // 🏷️ Conditional GET from the cached profile, as on the servlet port
+    private Mono<ServerResponse> getMyProfile(ServerRequest request) {
+        return readService.getMyProfile(principal(request).getEmail())
+                .flatMap(response -> versionOf(response.getData()).respond(request, () -> Mono.just(response)));
+    }
+
+    private Mono<ServerResponse> getAllEmployees(ServerRequest request) {
+        return readService.getAllUsers(principal(request), longParam(request, "after"), intParam(request, "limit"))
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    private Mono<ServerResponse> getEmployeesByDepartment(ServerRequest request) {
+        return readService.getUsersByDepartment(id(request), principal(request),
+                        longParam(request, "after"), intParam(request, "limit"))
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    // 🏷️ The row comes back in one query, so the ETag is taken from it rather than a separate lookup
+    private Mono<ServerResponse> getEmployee(ServerRequest request) {
+        return readService.getUser(principal(request), id(request))
+                .flatMap(response -> versionOf(response.getData()).respond(request, () -> Mono.just(response)));
+    }
+
+    private Mono<ServerResponse> getAllDepartments(ServerRequest request) {
+        AuthenticatedUser principal = principal(request);
+        return readService.getAllDepartmentsVersion(principal)
+                .flatMap(version -> version.respond(request, () -> readService.getAllDepartments(
+                        principal, longParam(request, "after"), intParam(request, "limit"))));
+    }
+
+    private Mono<ServerResponse> getDepartment(ServerRequest request) {
+        return readService.getDepartmentById(id(request), principal(request))
+                .flatMap(response -> versionOf(response.getData()).respond(request, () -> Mono.just(response)));
+    }
+
+    // 🔹 Same identity sources as JwtAuthenticationFilter: signed gateway headers, else the bearer token
+    private Mono<ServerResponse> authenticate(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        AuthenticatedUser principal = resolve(request.headers().asHttpHeaders());
+        if (principal == null || principal.getEmail() == null || principal.isExpired()) {
+            return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+        }
+        request.attributes().put(PRINCIPAL, principal);
+        return next.handle(request);
+    }
+
+    private AuthenticatedUser resolve(HttpHeaders headers) {
+        AuthenticatedUser principal = edgeIdentityResolver.resolve(headers);
+        if (principal != null) {
+            return principal;
+        }
+        String authHeader = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return jwtUtil.parseToken(authHeader.substring(7));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static AuthenticatedUser principal(ServerRequest request) {
+        return (AuthenticatedUser) request.attributes().get(PRINCIPAL);
+    }
+
+    private static ResourceVersion versionOf(UserResponse user) {
+        return ResourceVersion.of("user", user.getId(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    private static ResourceVersion versionOf(DepartmentResponse department) {
+        return ResourceVersion.of("department", department.getId(), department.getCreatedAt(), department.getUpdatedAt());
+    }
+
+    private static Long id(ServerRequest request) {
+        return Long.valueOf(request.pathVariable("id"));
+    }
+
+    private static Long longParam(ServerRequest request, String name) {
+        return request.queryParam(name).map(Long::valueOf).orElse(null);
+    }
+
+    private static Integer intParam(ServerRequest request, String name) {
+        return request.queryParam(name).map(Integer::valueOf).orElse(null);
+    }
+
+    private static Mono<ServerResponse> error(ServerRequest request, HttpStatus status, String message) {
+        return ServerResponse.status(status).bodyValue(ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .message(message)
+                .path(request.path())
+                .build());
+    }
+}
@@ -0,0 +1,21 @@
+package com.innocodes.employee_management_service.dto.request;
+
+import com.innocodes.employee_management_service.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentMoveRequest {
+    private Long targetDepartmentId;
+    // Optional filters; members matching all given filters are moved, none given moves everyone
+    private Role role;
+    private String status;
+    private List<Long> employeeIds;
+}
@@ -13,4 +13,5 @@ public class DepartmentRequest {
     private String name;
     private String description;
     private String managerEmail; // optional, for manager assignment
+    private Long parentId; // optional, applied on create; use the move endpoint afterwards
 }
@@ -0,0 +1,35 @@
+package com.innocodes.employee_management_service.dto.request;
+
+import com.innocodes.employee_management_service.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeFilterRequest {
+    private String status;
+    private Role role;
+    private List<Long> departmentIds;
+
+    // Ranges are half-open: from inclusive, to exclusive; either end may be omitted
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    private String sort; // id (default) or createdAt, optionally followed by ",desc"
+    private Long after; // keyset cursor: the "next" value of the previous page
+    private Integer limit;
+}
@@ -1,5 +1,6 @@
 package com.innocodes.employee_management_service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +15,10 @@ public class ApiResponse<T> {
     private String message;
     private T data;
 
+    // Keyset cursor for list endpoints: pass as ?after= to fetch the next page; absent on the last page
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long next;
+
     public static <T> ApiResponse<T> success(String message, T data) {
         return ApiResponse.<T>builder()
                 .status("success")
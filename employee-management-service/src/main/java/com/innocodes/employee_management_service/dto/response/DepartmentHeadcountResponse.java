@@ -0,0 +1,21 @@
+package com.innocodes.employee_management_service.dto.response;
+
+import com.innocodes.employee_management_service.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentHeadcountResponse {
+    // Null for employees without a department
+    private Long departmentId;
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<Role, Long> byRole;
+}
@@ -0,0 +1,20 @@
+package com.innocodes.employee_management_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DepartmentMoveResponse {
+    private Long sourceDepartmentId;
+    // Absent when members were left without a department
+    private Long targetDepartmentId;
+    private int movedEmployees;
+    private Boolean departmentDeleted;
+}
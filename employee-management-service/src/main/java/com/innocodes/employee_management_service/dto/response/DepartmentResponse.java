@@ -19,6 +19,8 @@ public class DepartmentResponse {
     private String description;
     private String managerEmail;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long parentId;
 
     public DepartmentResponse(Department department) {
         this.id = department.getId();
@@ -26,6 +28,8 @@ public class DepartmentResponse {
         this.description = department.getDescription();
         this.managerEmail = department.getManagerEmail();
         this.createdAt = department.getCreatedAt();
+        this.updatedAt = department.getUpdatedAt();
+        this.parentId = department.getParentId();
     }
 
 }
@@ -0,0 +1,22 @@
+package com.innocodes.employee_management_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportReport {
+    private long total;
+    private long created;
+    private long duplicates;
+    private long invalid;
+    private long failed;
+    private long elapsedMillis;
+    private List<ImportRowResult> rows;
+}
@@ -0,0 +1,7 @@
+package com.innocodes.employee_management_service.dto.response;
+
+import com.innocodes.employee_management_service.enums.Role;
+
+// One group of the headcount reconciliation query: how many users share a department, role and status
+public record HeadcountRow(Long departmentId, Role role, String status, Long count) {
+}
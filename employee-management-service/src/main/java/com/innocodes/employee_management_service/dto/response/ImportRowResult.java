@@ -0,0 +1,22 @@
+package com.innocodes.employee_management_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.innocodes.employee_management_service.enums.ImportRowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportRowResult {
+    // 1-based position of the record in the upload, header excluded
+    private long row;
+    private String email;
+    private ImportRowStatus status;
+    private Long id;
+    private String message;
+}
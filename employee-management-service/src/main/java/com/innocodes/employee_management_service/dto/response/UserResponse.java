@@ -19,5 +19,6 @@ public class UserResponse {
     private Long departmentId;
     private String status;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
 
@@ -2,11 +2,15 @@ package com.innocodes.employee_management_service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "departments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,5 +24,9 @@ public class Department {
     private String name;
     private String description;
     private LocalDateTime createdAt;
+    // Set by every change to the department's own columns; null until the first one
+    private LocalDateTime updatedAt;
     private String managerEmail;
+    // Null for a top-level department; changed only through DepartmentService#moveDepartment
+    private Long parentId;
 }
@@ -0,0 +1,35 @@
+package com.innocodes.employee_management_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * One ancestor/descendant pair of the department tree, including each department paired with
+ * itself at depth 0. Maintained by {@link com.innocodes.employee_management_service.repository.DepartmentClosureRepository}
+ * alongside {@link Department#getParentId()}; never edited row by row.
+ */
+@Entity
+@Table(name = "department_closure")
+@IdClass(DepartmentClosure.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentClosure {
+    @Id
+    private Long ancestorId;
+    @Id
+    private Long descendantId;
+    @Column(nullable = false)
+    private int depth;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -3,25 +3,36 @@ package com.innocodes.employee_management_service.entity;
 import com.innocodes.employee_management_service.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User {
+    // Stored instead of a hash for accounts created without a password (bulk import): not BCrypt, so
+    // nothing matches it, and auth-service makes the user set a password on first login
+    public static final String PASSWORD_RESET_REQUIRED = "!reset-required";
+
+    // Pooled sequence: ids are handed out 50 at a time, which keeps JDBC insert batching possible
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
     private String firstName;
     private String lastName;
     @Column(nullable = false, unique = true)
     private String email;
-    @Column(nullable = false)
+    // Owned by auth-service: a cached copy must never write a stale hash back over a rehash
+    @Column(nullable = false, updatable = false)
     private String password;
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -0,0 +1,37 @@
+package com.innocodes.employee_management_service.enums;
+
+import com.innocodes.employee_management_service.exceptions.CustomException;
+
+import java.util.Locale;
+
+public enum ImportFormat {
+    CSV("csv"),
+    JSON("json");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public static ImportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Unsupported import format: " + value);
+        }
+    }
+
+    // 🔹 No explicit format: go by the uploaded file's extension
+    public static ImportFormat fromFilename(String filename) {
+        if (filename != null) {
+            String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            for (ImportFormat format : values()) {
+                if (format.extension.equals(extension)) {
+                    return format;
+                }
+            }
+        }
+        throw new CustomException("Cannot tell the import format of '" + filename + "'; pass format=csv or format=json");
+    }
+}
@@ -0,0 +1,8 @@
+package com.innocodes.employee_management_service.enums;
+
+public enum ImportRowStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
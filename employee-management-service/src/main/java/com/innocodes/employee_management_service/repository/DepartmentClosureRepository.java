@@ -0,0 +1,61 @@
+package com.innocodes.employee_management_service.repository;
+
+import com.innocodes.employee_management_service.entity.DepartmentClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Set-based maintenance of the department closure table: every structural change is a fixed
+ * number of statements, however large the subtree. Callers hold {@link #lockHierarchy()} first.
+ */
+@Repository
+public interface DepartmentClosureRepository extends JpaRepository<DepartmentClosure, DepartmentClosure.Key> {
+
+    // Transaction-scoped advisory lock: two concurrent moves could each pass the cycle check and together form a loop
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('department_closure'))) hierarchy_lock",
+            nativeQuery = true)
+    Integer lockHierarchy();
+
+    // True when descendantId is ancestorId itself or sits anywhere below it
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    // New department: its self row, then one row per ancestor of its parent
+    @Modifying
+    @Query("INSERT INTO DepartmentClosure (ancestorId, descendantId, depth) SELECT d.id, d.id, 0 FROM Department d WHERE d.id = :id")
+    int insertSelf(@Param("id") Long id);
+
+    @Modifying
+    @Query("INSERT INTO DepartmentClosure (ancestorId, descendantId, depth) " +
+            "SELECT c.ancestorId, d.id, c.depth + 1 FROM DepartmentClosure c, Department d " +
+            "WHERE c.descendantId = :parentId AND d.id = :id")
+    int insertUnder(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // Subtree move, step 1: cut every path from the current ancestors of :id into its subtree
+    @Modifying
+    @Query("DELETE FROM DepartmentClosure c " +
+            "WHERE c.descendantId IN (SELECT s.descendantId FROM DepartmentClosure s WHERE s.ancestorId = :id) " +
+            "AND c.ancestorId IN (SELECT a.ancestorId FROM DepartmentClosure a WHERE a.descendantId = :id AND a.ancestorId <> :id)")
+    int detachSubtree(@Param("id") Long id);
+
+    // Subtree move, step 2: pair every ancestor of the new parent with every node of the subtree
+    @Modifying
+    @Query("INSERT INTO DepartmentClosure (ancestorId, descendantId, depth) " +
+            "SELECT a.ancestorId, s.descendantId, a.depth + s.depth + 1 FROM DepartmentClosure a, DepartmentClosure s " +
+            "WHERE a.descendantId = :parentId AND s.ancestorId = :id")
+    int attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // Removing :id from the middle of the tree: paths that ran through it get one level shorter...
+    @Modifying
+    @Query("UPDATE DepartmentClosure c SET c.depth = c.depth - 1 " +
+            "WHERE c.ancestorId IN (SELECT a.ancestorId FROM DepartmentClosure a WHERE a.descendantId = :id AND a.ancestorId <> :id) " +
+            "AND c.descendantId IN (SELECT s.descendantId FROM DepartmentClosure s WHERE s.ancestorId = :id AND s.descendantId <> :id)")
+    int bypass(@Param("id") Long id);
+
+    // ...and the rows naming it go
+    @Modifying
+    @Query("DELETE FROM DepartmentClosure c WHERE c.ancestorId = :id OR c.descendantId = :id")
+    int deleteNode(@Param("id") Long id);
+}
@@ -1,12 +1,65 @@
 package com.innocodes.employee_management_service.repository;
 
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
 import com.innocodes.employee_management_service.entity.Department;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+    // Query cache: invalidated by writes on this instance, other replicas catch up within the region TTL
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Department> findByManagerEmail(String managerEmail);
+
+    // SELECT ... FOR UPDATE: bulk moves and dissolves hold both departments until they commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Department d WHERE d.id = :id")
+    Optional<Department> findAndLockById(@Param("id") Long id);
+
+    // Read-side projections: only the columns DepartmentResponse needs, no managed entities
+    String DEPARTMENT_RESPONSE = "SELECT new com.innocodes.employee_management_service.dto.response.DepartmentResponse(" +
+            "d.id, d.name, d.description, d.managerEmail, d.createdAt, d.updatedAt, d.parentId) FROM Department d ";
+
+    // Not query-cached, like findTableVersion: GET /departments/{id} takes both its body and its ETag from here
+    @Query(DEPARTMENT_RESPONSE + "WHERE d.id = :id")
+    Optional<DepartmentResponse> findResponseById(@Param("id") Long id);
+
+    // Keyset pagination on the primary key; not query-cached, so a page is never older than the findTableVersion ETag
+    @Query(DEPARTMENT_RESPONSE + "WHERE d.id > :after ORDER BY d.id")
+    List<DepartmentResponse> findResponsesAfter(@Param("after") Long after, Limit limit);
+
+    // Whole subtree below :id from the closure table, nearest levels first
+    @Query(DEPARTMENT_RESPONSE + "JOIN DepartmentClosure c ON c.descendantId = d.id " +
+            "WHERE c.ancestorId = :id AND c.depth > 0 ORDER BY c.depth, d.id")
+    List<DepartmentResponse> findDescendantResponses(@Param("id") Long id);
+
+    // Dissolving a department hands its children to its own parent
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Department d SET d.parentId = :parentId, d.updatedAt = :now WHERE d.parentId = :id")
+    int reparentChildren(@Param("id") Long id, @Param("parentId") Long parentId, @Param("now") LocalDateTime now);
+
+    // Conditional GET /departments: any insert, update or delete changes one of the two
+    interface TableVersion {
+        long getRowCount();
+
+        LocalDateTime getLastModified();
+    }
+
+    // Never query-cached: the cache is per instance, so a cached version would miss writes made by other replicas
+    @Query("SELECT COUNT(d) AS rowCount, MAX(COALESCE(d.updatedAt, d.createdAt)) AS lastModified FROM Department d")
+    TableVersion findTableVersion();
 }
@@ -0,0 +1,67 @@
+package com.innocodes.employee_management_service.repository;
+
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking reads of {@code departments} for the reactive read server, over R2DBC. Same rows
+ * and same {@link DepartmentResponse} shape as the {@link DepartmentRepository} projections.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.reactive-reads.enabled", havingValue = "true")
+public class ReactiveDepartmentRepository {
+
+    private static final String DEPARTMENT_RESPONSE =
+            "SELECT d.id, d.name, d.description, d.manager_email, d.created_at, d.updated_at, d.parent_id " +
+            "FROM departments d ";
+
+    private final DatabaseClient reactiveReadDatabaseClient;
+
+    // Same aggregate as DepartmentRepository#findTableVersion, so both servers hand out the same ETag
+    public record TableVersion(long rowCount, LocalDateTime lastModified) {
+    }
+
+    public Mono<DepartmentResponse> findResponseById(Long id) {
+        return reactiveReadDatabaseClient.sql(DEPARTMENT_RESPONSE + "WHERE d.id = :id")
+                .bind("id", id)
+                .map(ReactiveDepartmentRepository::toResponse)
+                .one();
+    }
+
+    // Keyset pagination on the primary key
+    public Flux<DepartmentResponse> findResponsesAfter(long after, int limit) {
+        return reactiveReadDatabaseClient.sql(DEPARTMENT_RESPONSE + "WHERE d.id > :after ORDER BY d.id LIMIT :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveDepartmentRepository::toResponse)
+                .all();
+    }
+
+    public Mono<TableVersion> findTableVersion() {
+        return reactiveReadDatabaseClient.sql(
+                        "SELECT COUNT(*) AS row_count, MAX(COALESCE(d.updated_at, d.created_at)) AS last_modified FROM departments d")
+                .map(row -> new TableVersion(row.get("row_count", Long.class), row.get("last_modified", LocalDateTime.class)))
+                .one();
+    }
+
+    private static DepartmentResponse toResponse(Readable row) {
+        return DepartmentResponse.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .managerEmail(row.get("manager_email", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .parentId(row.get("parent_id", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.innocodes.employee_management_service.repository;
+
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.enums.Role;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking reads of {@code users} for the reactive read server, over R2DBC. Same rows and
+ * same {@link UserResponse} shape as the {@link UserRepository} projections; writes stay on JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.reactive-reads.enabled", havingValue = "true")
+public class ReactiveUserRepository {
+
+    private static final String USER_RESPONSE =
+            "SELECT u.id, u.first_name, u.last_name, u.email, u.role, u.department_id, u.status, u.created_at, u.updated_at " +
+            "FROM users u ";
+
+    private final DatabaseClient reactiveReadDatabaseClient;
+
+    public Mono<UserResponse> findResponseById(Long id) {
+        return reactiveReadDatabaseClient.sql(USER_RESPONSE + "WHERE u.id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toResponse)
+                .one();
+    }
+
+    public Mono<UserResponse> findResponseByEmail(String email) {
+        return reactiveReadDatabaseClient.sql(USER_RESPONSE + "WHERE u.email = :email")
+                .bind("email", email)
+                .map(ReactiveUserRepository::toResponse)
+                .one();
+    }
+
+    // Keyset pagination on the primary key
+    public Flux<UserResponse> findResponsesAfter(long after, int limit) {
+        return reactiveReadDatabaseClient.sql(USER_RESPONSE + "WHERE u.id > :after ORDER BY u.id LIMIT :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toResponse)
+                .all();
+    }
+
+    public Flux<UserResponse> findResponsesByDepartmentAfter(Long departmentId, long after, int limit) {
+        return reactiveReadDatabaseClient.sql(USER_RESPONSE +
+                        "WHERE u.department_id = :departmentId AND u.id > :after ORDER BY u.id LIMIT :limit")
+                .bind("departmentId", departmentId)
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toResponse)
+                .all();
+    }
+
+    private static UserResponse toResponse(Readable row) {
+        return UserResponse.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .role(Role.valueOf(row.get("role", String.class)))
+                .departmentId(row.get("department_id", Long.class))
+                .status(row.get("status", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.innocodes.employee_management_service.repository;
+
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.entity.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface UserFilterRepository {
+
+    // Specification filter projected straight to UserResponse: no managed entities, no password hash
+    List<UserResponse> findResponses(Specification<User> specification, Sort sort, int limit);
+}
@@ -0,0 +1,39 @@
+package com.innocodes.employee_management_service.repository;
+
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class UserFilterRepositoryImpl implements UserFilterRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UserResponse> findResponses(Specification<User> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserResponse> query = cb.createQuery(UserResponse.class);
+        Root<User> user = query.from(User.class);
+
+        query.select(cb.construct(UserResponse.class,
+                user.get("id"), user.get("firstName"), user.get("lastName"), user.get("email"),
+                user.get("role"), user.get("departmentId"), user.get("status"), user.get("createdAt"), user.get("updatedAt")));
+        Predicate predicate = specification.toPredicate(user, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, user, cb));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -2,14 +2,92 @@ package com.innocodes.employee_management_service.repository;
 
 
 
+import com.innocodes.employee_management_service.dto.response.HeadcountRow;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
 import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserFilterRepository {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     List<User> findByDepartmentId(Long departmentId);
+
+    // Bulk import: which of these emails are already taken, in one round trip
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Set-based department moves: one UPDATE on idx_users_department_id, however many members.
+    // Bulk JPQL also invalidates the users second-level cache region.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.departmentId = :target, u.updatedAt = :now WHERE u.departmentId = :source " +
+            "AND (:role IS NULL OR u.role = :role) AND (:status IS NULL OR u.status = :status)")
+    int moveDepartmentMembers(@Param("source") Long source, @Param("target") Long target,
+                              @Param("role") Role role, @Param("status") String status,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.departmentId = :target, u.updatedAt = :now WHERE u.departmentId = :source " +
+            "AND u.id IN :ids AND (:role IS NULL OR u.role = :role) AND (:status IS NULL OR u.status = :status)")
+    int moveSelectedDepartmentMembers(@Param("source") Long source, @Param("target") Long target,
+                                      @Param("ids") Collection<Long> ids, @Param("role") Role role,
+                                      @Param("status") String status, @Param("now") LocalDateTime now);
+
+    // Filter keyset cursor: the sort value of the row a page ended on
+    @Query("SELECT u.createdAt FROM User u WHERE u.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
+    // Planner's row estimate from the last ANALYZE: free to read, unlike COUNT(*)
+    @Query(value = "SELECT CAST(GREATEST(reltuples, 0) AS BIGINT) FROM pg_class WHERE oid = 'users'::regclass",
+            nativeQuery = true)
+    long estimateRowCount();
+
+    // Headcount reconciliation: one grouped count over the whole table
+    @Query("SELECT new com.innocodes.employee_management_service.dto.response.HeadcountRow(" +
+            "u.departmentId, u.role, u.status, COUNT(u)) FROM User u GROUP BY u.departmentId, u.role, u.status")
+    List<HeadcountRow> countByDepartmentRoleAndStatus();
+
+    // Read-side projections: only the columns UserResponse needs, no managed entities, no password hash
+    String USER_RESPONSE = "SELECT new com.innocodes.employee_management_service.dto.response.UserResponse(" +
+            "u.id, u.firstName, u.lastName, u.email, u.role, u.departmentId, u.status, u.createdAt, u.updatedAt) FROM User u ";
+
+    @Query(USER_RESPONSE + "WHERE u.id = :id")
+    Optional<UserResponse> findResponseById(@Param("id") Long id);
+
+    @Query(USER_RESPONSE + "WHERE u.email = :email")
+    Optional<UserResponse> findResponseByEmail(@Param("email") String email);
+
+    // Conditional GET /employees/{id}: the two timestamps the ETag comes from, by primary key
+    interface Timestamps {
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    @Query("SELECT u.createdAt AS createdAt, u.updatedAt AS updatedAt FROM User u WHERE u.id = :id")
+    Optional<Timestamps> findTimestampsById(@Param("id") Long id);
+
+    // Keyset pagination on the primary key
+    @Query(USER_RESPONSE + "WHERE u.id > :after ORDER BY u.id")
+    List<UserResponse> findResponsesAfter(@Param("after") Long after, Limit limit);
+
+    @Query(USER_RESPONSE + "WHERE u.departmentId = :departmentId AND u.id > :after ORDER BY u.id")
+    List<UserResponse> findResponsesByDepartmentAfter(@Param("departmentId") Long departmentId,
+                                                      @Param("after") Long after, Limit limit);
+
+    // Everyone in :departmentId or any department below it, one keyset page at a time
+    @Query(USER_RESPONSE + "JOIN DepartmentClosure c ON c.descendantId = u.departmentId " +
+            "WHERE c.ancestorId = :departmentId AND u.id > :after ORDER BY u.id")
+    List<UserResponse> findResponsesInSubtreeAfter(@Param("departmentId") Long departmentId,
+                                                   @Param("after") Long after, Limit limit);
 }
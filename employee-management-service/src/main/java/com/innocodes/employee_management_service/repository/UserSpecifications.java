@@ -0,0 +1,78 @@
+package com.innocodes.employee_management_service.repository;
+
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Building blocks of the employee filter; combine with {@link Specification#allOf}.
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> hasStatus(String status) {
+        return (user, query, cb) -> cb.equal(user.get("status"), status);
+    }
+
+    public static Specification<User> hasRole(Role role) {
+        return (user, query, cb) -> cb.equal(user.get("role"), role);
+    }
+
+    public static Specification<User> inDepartments(Collection<Long> departmentIds) {
+        return (user, query, cb) -> user.get("departmentId").in(departmentIds);
+    }
+
+    public static Specification<User> createdWithin(LocalDateTime from, LocalDateTime to) {
+        return within("createdAt", from, to);
+    }
+
+    public static Specification<User> updatedWithin(LocalDateTime from, LocalDateTime to) {
+        return within("updatedAt", from, to);
+    }
+
+    public static Specification<User> hasCreatedAt() {
+        return (user, query, cb) -> cb.isNotNull(user.get("createdAt"));
+    }
+
+    // Keyset on the primary key alone
+    public static Specification<User> idAfter(Long id, Sort.Direction direction) {
+        return (user, query, cb) -> direction.isAscending()
+                ? cb.greaterThan(user.get("id"), id)
+                : cb.lessThan(user.get("id"), id);
+    }
+
+    /**
+     * Keyset on (createdAt, id). Written as {@code createdAt >= c AND (createdAt > c OR id > i)} rather
+     * than a plain OR, so the first conjunct gives the index a range to start from on deep pages.
+     */
+    public static Specification<User> createdAtAfter(LocalDateTime createdAt, Long id, Sort.Direction direction) {
+        return (user, query, cb) -> direction.isAscending()
+                ? cb.and(cb.greaterThanOrEqualTo(user.get("createdAt"), createdAt),
+                        cb.or(cb.greaterThan(user.get("createdAt"), createdAt), cb.greaterThan(user.get("id"), id)))
+                : cb.and(cb.lessThanOrEqualTo(user.get("createdAt"), createdAt),
+                        cb.or(cb.lessThan(user.get("createdAt"), createdAt), cb.lessThan(user.get("id"), id)));
+    }
+
+    // Half-open [from, to); a missing end leaves that side open
+    private static Specification<User> within(String attribute, LocalDateTime from, LocalDateTime to) {
+        return (user, query, cb) -> {
+            List<Predicate> bounds = new ArrayList<>(2);
+            if (from != null) {
+                bounds.add(cb.greaterThanOrEqualTo(user.get(attribute), from));
+            }
+            if (to != null) {
+                bounds.add(cb.lessThan(user.get(attribute), to));
+            }
+            return cb.and(bounds.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.innocodes.employee_management_service.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Verified identity of the caller, built once by {@link JwtAuthenticationFilter}
+ * and stored as the principal on the SecurityContext so controllers, services and
+ * {@link com.innocodes.employee_management_service.utils.RoleValidator} never have
+ * to parse the token again.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser {
+    private final String email;
+    private final String role;
+    private final Date expiresAt;
+
+    public boolean hasRole(String expectedRole) {
+        return expectedRole.equalsIgnoreCase(role);
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.before(new Date());
+    }
+}
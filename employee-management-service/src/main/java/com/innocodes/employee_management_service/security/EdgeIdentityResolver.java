@@ -0,0 +1,55 @@
+package com.innocodes.employee_management_service.security;
+
+import com.innocodes.jwt_core.EdgeIdentitySigner;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.function.UnaryOperator;
+
+/**
+ * Trusted-edge mode: when enabled, accepts the identity headers the api-gateway signs
+ * after verifying the JWT, so this service can skip its own token verification.
+ */
+@Component
+public class EdgeIdentityResolver {
+
+    private final EdgeIdentitySigner signer;
+
+    public EdgeIdentityResolver(@Value("${jwt.edge.enabled:false}") boolean enabled,
+                                @Value("${jwt.edge.secret:}") String secret) {
+        this.signer = enabled ? new EdgeIdentitySigner(secret.getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    /**
+     * Returns the gateway-asserted principal, or null when the mode is off or the
+     * headers are absent or fail the integrity check (caller falls back to the JWT).
+     */
+    public AuthenticatedUser resolve(HttpServletRequest request) {
+        return resolve(request::getHeader);
+    }
+
+    // Same check for the reactive read server's requests
+    public AuthenticatedUser resolve(HttpHeaders headers) {
+        return resolve(headers::getFirst);
+    }
+
+    private AuthenticatedUser resolve(UnaryOperator<String> header) {
+        if (signer == null) {
+            return null;
+        }
+        String email = header.apply(EdgeIdentitySigner.EMAIL_HEADER);
+        String role = header.apply(EdgeIdentitySigner.ROLE_HEADER);
+        String expiresAt = header.apply(EdgeIdentitySigner.EXPIRES_HEADER);
+        String signature = header.apply(EdgeIdentitySigner.SIGNATURE_HEADER);
+
+        if (!signer.isValid(email, role, expiresAt, signature)) {
+            return null;
+        }
+        return new AuthenticatedUser(email, role == null || role.isEmpty() ? null : role,
+                new Date(Long.parseLong(expiresAt) * 1000L));
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,14 +14,17 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final EdgeIdentityResolver edgeIdentityResolver;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, EdgeIdentityResolver edgeIdentityResolver) {
         this.jwtUtil = jwtUtil;
+        this.edgeIdentityResolver = edgeIdentityResolver;
     }
 
     @Override
@@ -30,28 +34,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        final String authHeader = request.getHeader("Authorization");
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        final String token = authHeader.substring(7);
-        final String email = jwtUtil.extractEmail(token);
-
-        // 🔹 Only validate the token; no DB lookup needed
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.isTokenValid(token, email)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                email,
-                                null,
-                                Collections.emptyList()
-                        );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        // 🔹 Gateway already verified the token: trust its signed identity headers
+        AuthenticatedUser principal = edgeIdentityResolver.resolve(request);
+
+        if (principal == null) {
+            final String authHeader = request.getHeader("Authorization");
+
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                filterChain.doFilter(request, response);
+                return;
             }
+
+            // 🔹 Only validate the token; no DB lookup needed
+            // Single signature check per request - the principal carries the claims from here on
+            try {
+                principal = jwtUtil.parseToken(authHeader.substring(7));
+            } catch (RuntimeException e) {
+                // 🔹 Bad or expired token: continue unauthenticated, Spring Security rejects the request
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
+        if (principal.getEmail() != null && !principal.isExpired()) {
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            principal,
+                            null,
+                            principal.getRole() == null
+                                    ? Collections.emptyList()
+                                    : List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole()))
+                    );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
@@ -1,18 +1,21 @@
 package com.innocodes.employee_management_service.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import com.innocodes.jwt_core.JwtClaims;
+import com.innocodes.jwt_core.JwtMinter;
+import com.innocodes.jwt_core.JwtVerifier;
+import com.innocodes.jwt_core.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
-import java.util.Date;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     @Value("${jwt.secret}")
     private String secret;
@@ -20,50 +23,40 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long jwtExpirationInMs;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    }
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
 
-    // ✅ Generate token with claims
-    public String generateToken(Map<String, Object> claims) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + jwtExpirationInMs);
+    // Shared jwt-core verifier/minter: key and per-thread Mac are set up once
+    private VerifiedTokenCache tokenCache;
+    private JwtVerifier verifier;
+    private JwtMinter minter;
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+    @PostConstruct
+    void init() {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        tokenCache = new VerifiedTokenCache(cacheMaxSize);
+        verifier = new JwtVerifier(key, tokenCache);
+        minter = new JwtMinter(key, jwtExpirationInMs);
     }
 
-    // ✅ Extract all claims
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    // ✅ Extract email from token
-    public String extractEmail(String token) {
-        return extractAllClaims(token).get("email", String.class);
+    // ✅ Generate token with claims
+    public String generateToken(Map<String, Object> claims) {
+        return minter.mint(claims);
     }
 
-    // ✅ Extract role from token
-    public String extractRole(String token) {
-        return extractAllClaims(token).get("role", String.class);
+    // ✅ Extract all claims (verified once per distinct token, then served from cache)
+    private JwtClaims extractAllClaims(String token) {
+        return verifier.verify(token);
     }
 
-    // ✅ Validate token
-    public boolean isTokenValid(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+    // ✅ Verify the token once and capture everything the request needs
+    public AuthenticatedUser parseToken(String token) {
+        JwtClaims claims = extractAllClaims(token);
+        return new AuthenticatedUser(claims.getEmail(), claims.getRole(), claims.getExpiration());
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = extractAllClaims(token).getExpiration();
-        return expiration.before(new Date());
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokenCache.nativeCache(), "jwt.verified-tokens");
     }
 }
@@ -2,27 +2,62 @@ package com.innocodes.employee_management_service.service;
 
 
 import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.request.DepartmentMoveRequest;
 import com.innocodes.employee_management_service.dto.request.DepartmentRequest;
+import com.innocodes.employee_management_service.dto.response.DepartmentHeadcountResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentMoveResponse;
 import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.utils.ResourceVersion;
+
+import java.util.List;
 
 public interface DepartmentService {
-    // 1️⃣ Create new department
-    ApiResponse createDepartment(DepartmentRequest request, String token, String email);
+    // 1️⃣ Create new department, optionally under a parent
+    ApiResponse createDepartment(DepartmentRequest request, AuthenticatedUser creator);
 
     // 2️⃣ Update department
-    ApiResponse updateDepartment(Long id, DepartmentRequest request, String email, String token);
+    ApiResponse updateDepartment(Long id, DepartmentRequest request, AuthenticatedUser updater);
 
-    // 3️⃣ Delete department
-    ApiResponse deleteDepartment(Long id, String email, String token);
+    // 3️⃣ Delete department; its members are left without a department, its sub-departments move up a level
+    ApiResponse deleteDepartment(Long id, AuthenticatedUser deleter);
 
     // 4️⃣ Get single department by ID
-    ApiResponse getDepartmentById(Long id, String email, String token);
+    ApiResponse getDepartmentById(Long id, AuthenticatedUser requester);
+
+    // 4️⃣ ETag and Last-Modified of a single department, for conditional GETs
+    ResourceVersion getDepartmentVersion(Long id, AuthenticatedUser requester);
+
+    // 5️⃣ Get all departments, one keyset page at a time
+    ApiResponse getAllDepartments(AuthenticatedUser requester, Long after, Integer limit);
 
-    // 5️⃣ Get all departments
-    ApiResponse getAllDepartments(String email, String token);
+    // 5️⃣ ETag and Last-Modified shared by every page of departments
+    ResourceVersion getAllDepartmentsVersion(AuthenticatedUser requester);
 
     // 6️⃣ Assign manager to department
     ApiResponse<DepartmentResponse> assignManagerToDepartment(Long departmentId, Long managerId, String email);
 
+    // 7️⃣ Move all or filtered members to another department in one statement
+    ApiResponse<DepartmentMoveResponse> moveMembers(Long departmentId, DepartmentMoveRequest request, AuthenticatedUser requester);
+
+    // 8️⃣ Dissolve a department, reassigning its members to another one (or to none)
+    ApiResponse<DepartmentMoveResponse> dissolveDepartment(Long departmentId, Long reassignTo, AuthenticatedUser requester);
+
+    // 9️⃣ Headcount of one department by status and role, from in-memory counters
+    ApiResponse<DepartmentHeadcountResponse> getHeadcount(Long departmentId, AuthenticatedUser requester);
+
+    // 🔟 Headcount of every department
+    ApiResponse<List<DepartmentHeadcountResponse>> getAllHeadcounts(AuthenticatedUser requester);
+
+    // 🌳 Move a department with its whole subtree under another parent (null for top level)
+    ApiResponse<DepartmentResponse> moveDepartment(Long id, Long parentId, AuthenticatedUser requester);
+
+    // 🌳 Every department below this one, at any depth
+    ApiResponse<List<DepartmentResponse>> getDescendants(Long id, AuthenticatedUser requester);
+
+    // 🌳 Employees of this department and all its sub-departments, one keyset page at a time
+    ApiResponse<List<UserResponse>> getSubtreeEmployees(Long id, AuthenticatedUser requester, Long after, Integer limit);
+
 
 }
\ No newline at end of file
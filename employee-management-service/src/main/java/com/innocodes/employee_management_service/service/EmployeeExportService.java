@@ -0,0 +1,11 @@
+package com.innocodes.employee_management_service.service;
+
+import com.innocodes.employee_management_service.enums.ExportFormat;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface EmployeeExportService {
+
+    // 📤 Stream the whole employee directory (Admin only); the role check runs before the body is written
+    StreamingResponseBody exportUsers(AuthenticatedUser requester, ExportFormat format);
+}
@@ -0,0 +1,14 @@
+package com.innocodes.employee_management_service.service;
+
+import com.innocodes.employee_management_service.dto.request.EmployeeFilterRequest;
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+
+import java.util.List;
+
+public interface EmployeeFilterService {
+
+    // 🧮 Combined status / role / department / date-range filter, one keyset page at a time (Admin only)
+    ApiResponse<List<UserResponse>> filterUsers(AuthenticatedUser requester, EmployeeFilterRequest filter);
+}
@@ -0,0 +1,13 @@
+package com.innocodes.employee_management_service.service;
+
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.EmployeeImportReport;
+import com.innocodes.employee_management_service.enums.ImportFormat;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface EmployeeImportService {
+
+    // 📥 Bulk-create employees from a CSV or JSON-array upload (Admin only); every row gets a result
+    ApiResponse<EmployeeImportReport> importUsers(AuthenticatedUser requester, MultipartFile file, ImportFormat format);
+}
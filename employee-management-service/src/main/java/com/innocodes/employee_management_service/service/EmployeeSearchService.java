@@ -0,0 +1,13 @@
+package com.innocodes.employee_management_service.service;
+
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+
+import java.util.List;
+
+public interface EmployeeSearchService {
+
+    // 🔎 Ranked type-ahead on the start of first name, last name and email (Admin only), not on inner words
+    ApiResponse<List<UserResponse>> search(AuthenticatedUser requester, String query, Integer limit);
+}
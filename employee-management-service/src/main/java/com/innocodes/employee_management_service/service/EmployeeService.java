@@ -3,27 +3,35 @@ package com.innocodes.employee_management_service.service;
 import com.innocodes.employee_management_service.dto.response.ApiResponse;
 import com.innocodes.employee_management_service.dto.request.EmployeeRequest;
 import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.utils.ResourceVersion;
 
 import java.util.List;
 
 
 public interface EmployeeService {
-    ApiResponse<UserResponse> updateUser(Long id, EmployeeRequest request, String updaterEmail, String token);
+    ApiResponse<UserResponse> updateUser(Long id, EmployeeRequest request, AuthenticatedUser updater);
 
     // 2️⃣ Delete a user
-    ApiResponse<Void> deleteUser(Long id, String deleterEmail, String token);
+    ApiResponse<Void> deleteUser(Long id, AuthenticatedUser deleter);
 
-    // 3️⃣ Get all users (Admin only)
-    ApiResponse<List<UserResponse>> getAllUsers(String requesterEmail, String token);
+    // 3️⃣ Get all users, one keyset page at a time (Admin only)
+    ApiResponse<List<UserResponse>> getAllUsers(AuthenticatedUser requester, Long after, Integer limit);
 
     // 4️⃣ Get user by ID (Admin only)
-    ApiResponse<UserResponse> getUser(String email, String token, Long id);
+    ApiResponse<UserResponse> getUser(AuthenticatedUser requester, Long id);
 
-    // 5️⃣ Get all users within a department (Manager only)
-    ApiResponse<List<UserResponse>> getUsersByDepartment(Long departmentId, String managerEmail);
+    // 5️⃣ Get users within a department, one keyset page at a time (Manager only)
+    ApiResponse<List<UserResponse>> getUsersByDepartment(Long departmentId, AuthenticatedUser requester, Long after, Integer limit);
 
     // 6️⃣ Get logged-in user's profile
     ApiResponse<UserResponse> getMyProfile(String userEmail);
 
+    // 🏷️ ETag and Last-Modified of a user, for conditional GETs (Admin only)
+    ResourceVersion getUserVersion(AuthenticatedUser requester, Long id);
+
+    // 🏷️ ETag and Last-Modified of the logged-in user's profile
+    ResourceVersion getMyProfileVersion(String userEmail);
+
 
 }
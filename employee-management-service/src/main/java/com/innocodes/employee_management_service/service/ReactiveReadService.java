@@ -0,0 +1,34 @@
+package com.innocodes.employee_management_service.service;
+
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.utils.ResourceVersion;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Non-blocking twins of the EmployeeService and DepartmentService reads: same rules, same responses
+public interface ReactiveReadService {
+    // 1️⃣ Get logged-in user's profile, through the same profile cache as GET /employees/me
+    Mono<ApiResponse<UserResponse>> getMyProfile(String userEmail);
+
+    // 2️⃣ Get user by ID (Admin only)
+    Mono<ApiResponse<UserResponse>> getUser(AuthenticatedUser requester, Long id);
+
+    // 3️⃣ Get all users, one keyset page at a time (Admin only)
+    Mono<ApiResponse<List<UserResponse>>> getAllUsers(AuthenticatedUser requester, Long after, Integer limit);
+
+    // 4️⃣ Get users within a department, one keyset page at a time (Manager only)
+    Mono<ApiResponse<List<UserResponse>>> getUsersByDepartment(Long departmentId, AuthenticatedUser requester, Long after, Integer limit);
+
+    // 5️⃣ Get single department by ID (Admin only)
+    Mono<ApiResponse<DepartmentResponse>> getDepartmentById(Long id, AuthenticatedUser requester);
+
+    // 6️⃣ Get all departments, one keyset page at a time (Admin only)
+    Mono<ApiResponse<List<DepartmentResponse>>> getAllDepartments(AuthenticatedUser requester, Long after, Integer limit);
+
+    // 6️⃣ ETag and Last-Modified shared by every page of departments
+    Mono<ResourceVersion> getAllDepartmentsVersion(AuthenticatedUser requester);
+}
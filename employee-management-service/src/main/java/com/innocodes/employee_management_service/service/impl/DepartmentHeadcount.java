@@ -0,0 +1,206 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.innocodes.employee_management_service.dto.response.DepartmentHeadcountResponse;
+import com.innocodes.employee_management_service.dto.response.HeadcountRow;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Headcount per department, role and status, kept in memory so the dashboard stats never touch
+ * the database.
+ * <p>
+ * Writes made through this service adjust the counters once their transaction commits; each
+ * counter is a {@link LongAdder}, so a burst of updates in one department does not contend on a
+ * single field. Everything else is settled by a periodic grouped COUNT that replaces the counters
+ * wholesale: registrations in auth-service, bulk department moves, and the odd update that races
+ * a reconciliation. Counts can therefore lag by at most one reconciliation interval.
+ */
+@Slf4j
+@Component
+public class DepartmentHeadcount {
+
+    // byStatus key for users whose status was never set
+    static final String NO_STATUS = "UNSPECIFIED";
+
+    public record Bucket(Long departmentId, Role role, String status) {
+
+        public static Bucket of(User user) {
+            return new Bucket(user.getDepartmentId(), user.getRole(), user.getStatus());
+        }
+    }
+
+    private final UserRepository userRepository;
+
+    // Null until first read or reconciliation, and again after a bulk change
+    private volatile Map<Bucket, LongAdder> counts;
+
+    // Held across the grouped COUNT: a lock, not a monitor, so a waiting virtual thread does not pin its carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public DepartmentHeadcount(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public void added(Bucket bucket) {
+        afterCommit(() -> adder(bucket).ifPresent(LongAdder::increment));
+    }
+
+    public void removed(Bucket bucket) {
+        afterCommit(() -> adder(bucket).ifPresent(LongAdder::decrement));
+    }
+
+    public void changed(Bucket before, Bucket after) {
+        if (before.equals(after)) {
+            return;
+        }
+        afterCommit(() -> {
+            adder(before).ifPresent(LongAdder::decrement);
+            adder(after).ifPresent(LongAdder::increment);
+        });
+    }
+
+    // ✅ For set-based writes: drop the counters once the transaction commits, the next read recounts
+    public void invalidateAfterCommit() {
+        afterCommit(() -> counts = null);
+    }
+
+    public DepartmentHeadcountResponse get(Long departmentId) {
+        return summarise(departmentId, current().entrySet().stream()
+                .filter(entry -> Objects.equals(entry.getKey().departmentId(), departmentId))
+                .toList());
+    }
+
+    // Every department with at least one member, unassigned employees last
+    public List<DepartmentHeadcountResponse> getAll() {
+        Map<Long, List<Map.Entry<Bucket, LongAdder>>> byDepartment = new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder()));
+        current().entrySet().forEach(entry ->
+                byDepartment.computeIfAbsent(entry.getKey().departmentId(), id -> new ArrayList<>()).add(entry));
+
+        List<DepartmentHeadcountResponse> departments = new ArrayList<>(byDepartment.size());
+        byDepartment.forEach((departmentId, entries) -> {
+            DepartmentHeadcountResponse headcount = summarise(departmentId, entries);
+            if (headcount.getTotal() > 0) {
+                departments.add(headcount);
+            }
+        });
+        return departments;
+    }
+
+    @Scheduled(initialDelayString = "${employee.headcount.reconcile-interval:5m}",
+            fixedDelayString = "${employee.headcount.reconcile-interval:5m}")
+    public void reconcile() {
+        Map<Bucket, LongAdder> previous;
+        Map<Bucket, LongAdder> fresh;
+        loadLock.lock();
+        try {
+            previous = counts;
+            fresh = load();
+            counts = fresh;
+        } finally {
+            loadLock.unlock();
+        }
+
+        if (previous != null) {
+            long corrected = drift(previous, fresh);
+            if (corrected > 0) {
+                log.info("Headcount reconciled: {} buckets corrected", corrected);
+            }
+        }
+    }
+
+    private Map<Bucket, LongAdder> current() {
+        Map<Bucket, LongAdder> current = counts;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                current = counts;
+                if (current == null) {
+                    current = load();
+                    counts = current;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Map<Bucket, LongAdder> load() {
+        Map<Bucket, LongAdder> loaded = new ConcurrentHashMap<>();
+        for (HeadcountRow row : userRepository.countByDepartmentRoleAndStatus()) {
+            LongAdder adder = new LongAdder();
+            adder.add(row.count());
+            loaded.put(new Bucket(row.departmentId(), row.role(), row.status()), adder);
+        }
+        return loaded;
+    }
+
+    // Nothing to adjust before the first load: the load counts the committed row itself
+    private Optional<LongAdder> adder(Bucket bucket) {
+        Map<Bucket, LongAdder> current = counts;
+        return current == null
+                ? Optional.empty()
+                : Optional.of(current.computeIfAbsent(bucket, key -> new LongAdder()));
+    }
+
+    private static DepartmentHeadcountResponse summarise(Long departmentId, Collection<Map.Entry<Bucket, LongAdder>> entries) {
+        long total = 0;
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<Role, Long> byRole = new EnumMap<>(Role.class);
+        for (Map.Entry<Bucket, LongAdder> entry : entries) {
+            long count = entry.getValue().sum();
+            if (count <= 0) {
+                continue;
+            }
+            Bucket bucket = entry.getKey();
+            total += count;
+            byStatus.merge(bucket.status() != null ? bucket.status() : NO_STATUS, count, Long::sum);
+            if (bucket.role() != null) {
+                byRole.merge(bucket.role(), count, Long::sum);
+            }
+        }
+        return DepartmentHeadcountResponse.builder()
+                .departmentId(departmentId)
+                .total(total)
+                .byStatus(byStatus)
+                .byRole(byRole)
+                .build();
+    }
+
+    private static long drift(Map<Bucket, LongAdder> previous, Map<Bucket, LongAdder> fresh) {
+        Set<Bucket> buckets = new HashSet<>(previous.keySet());
+        buckets.addAll(fresh.keySet());
+        return buckets.stream()
+                .filter(bucket -> sum(previous, bucket) != sum(fresh, bucket))
+                .count();
+    }
+
+    private static long sum(Map<Bucket, LongAdder> counts, Bucket bucket) {
+        LongAdder adder = counts.get(bucket);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
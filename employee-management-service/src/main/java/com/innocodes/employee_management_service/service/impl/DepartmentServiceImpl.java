@@ -2,23 +2,33 @@ package com.innocodes.employee_management_service.service.impl;
 
 
 import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.request.DepartmentMoveRequest;
 import com.innocodes.employee_management_service.dto.request.DepartmentRequest;
+import com.innocodes.employee_management_service.dto.response.DepartmentHeadcountResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentMoveResponse;
 import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
 import com.innocodes.employee_management_service.entity.Department;
 import com.innocodes.employee_management_service.entity.User;
 import com.innocodes.employee_management_service.enums.Role;
 import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.DepartmentClosureRepository;
 import com.innocodes.employee_management_service.repository.DepartmentRepository;
 import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
 import com.innocodes.employee_management_service.service.DepartmentService;
+import com.innocodes.employee_management_service.utils.KeysetPage;
+import com.innocodes.employee_management_service.utils.ResourceVersion;
 import com.innocodes.employee_management_service.utils.RoleValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -26,24 +36,40 @@ import java.util.stream.Collectors;
 public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final DepartmentClosureRepository closureRepository;
     private final UserRepository userRepository;
     private final RoleValidator roleValidator;
+    private final ProfileCache profileCache;
+    private final DepartmentHeadcount headcount;
 
     /**
-     * Create new department (Admin only)
+     * Create new department (Admin only), optionally under a parent department
      */
-    public ApiResponse<DepartmentResponse> createDepartment(DepartmentRequest request, String token,  String creatorEmail) {
-        roleValidator.checkIfAdmin(token);
+    @Transactional
+    public ApiResponse<DepartmentResponse> createDepartment(DepartmentRequest request, AuthenticatedUser creator) {
+        roleValidator.checkIfAdmin(creator);
+
+        Long parentId = request.getParentId();
+        if (parentId != null) {
+            closureRepository.lockHierarchy();
+            departmentRepository.findById(parentId)
+                    .orElseThrow(() -> new CustomException("Parent department not found with ID: " + parentId));
+        }
 
         Department department = Department.builder()
                 .name(request.getName())
                 .description(request.getDescription())
                 .managerEmail(request.getManagerEmail())
+                .parentId(parentId)
                 .createdAt(LocalDateTime.now())
                 .build();
 
         departmentRepository.save(department);
-        log.info("Department '{}' created by Admin {}", department.getName(), creatorEmail);
+        closureRepository.insertSelf(department.getId());
+        if (parentId != null) {
+            closureRepository.insertUnder(department.getId(), parentId);
+        }
+        log.info("Department '{}' created by Admin {}", department.getName(), creator.getEmail());
 
         return ApiResponse.success("Department created successfully", toResponse(department));
     }
@@ -51,8 +77,8 @@ public class DepartmentServiceImpl implements DepartmentService {
     /**
      * Update department (Admin only)
      */
-    public ApiResponse<DepartmentResponse> updateDepartment(Long id, DepartmentRequest request, String updaterEmail, String token) {
-        roleValidator.checkIfAdmin(token);
+    public ApiResponse<DepartmentResponse> updateDepartment(Long id, DepartmentRequest request, AuthenticatedUser updater) {
+        roleValidator.checkIfAdmin(updater);
 
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new CustomException("Department not found with ID: " + id));
@@ -60,53 +86,249 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setName(request.getName());
         department.setDescription(request.getDescription());
         department.setManagerEmail(request.getManagerEmail());
+        department.setUpdatedAt(LocalDateTime.now());
         departmentRepository.save(department);
 
-        log.info("Department '{}' updated by Admin {}", department.getName(), updaterEmail);
+        log.info("Department '{}' updated by Admin {}", department.getName(), updater.getEmail());
         return ApiResponse.success("Department updated successfully", toResponse(department));
     }
 
     /**
-     * Delete department (Admin only)
+     * Move a department and its whole subtree under another parent, or to the top level when
+     * parentId is null (Admin only). A fixed number of closure-table statements, one transaction.
      */
-    public ApiResponse<Void> deleteDepartment(Long id, String deleterEmail, String token) {
-        roleValidator.checkIfAdmin(token);
+    @Transactional
+    public ApiResponse<DepartmentResponse> moveDepartment(Long id, Long parentId, AuthenticatedUser requester) {
+        roleValidator.checkIfAdmin(requester);
+        closureRepository.lockHierarchy();
 
         Department department = departmentRepository.findById(id)
-                .orElseThrow(() -> new CustomException("Cannot delete — department not found with ID: " + id));
+                .orElseThrow(() -> new CustomException("Department not found with ID: " + id));
+        if (Objects.equals(department.getParentId(), parentId)) {
+            return ApiResponse.success("Department already under the requested parent", toResponse(department));
+        }
+        if (parentId != null) {
+            departmentRepository.findById(parentId)
+                    .orElseThrow(() -> new CustomException("Parent department not found with ID: " + parentId));
+            if (closureRepository.existsByAncestorIdAndDescendantId(id, parentId)) {
+                throw new CustomException("Cannot move a department under itself or one of its sub-departments");
+            }
+        }
+
+        closureRepository.detachSubtree(id);
+        if (parentId != null) {
+            closureRepository.attachSubtree(id, parentId);
+        }
+        department.setParentId(parentId);
+        department.setUpdatedAt(LocalDateTime.now());
+
+        log.info("Department '{}' moved under {} by Admin {}", department.getName(), parentId, requester.getEmail());
+        return ApiResponse.success("Department moved successfully", toResponse(department));
+    }
+
+    /**
+     * Delete department (Admin only); members are unassigned in the same transaction
+     */
+    @Transactional
+    public ApiResponse<DepartmentMoveResponse> deleteDepartment(Long id, AuthenticatedUser deleter) {
+        roleValidator.checkIfAdmin(deleter);
+        return ApiResponse.success("Department deleted successfully", dissolve(id, null, deleter));
+    }
 
+    /**
+     * Move all or filtered members to another department (Admin only), as one UPDATE
+     */
+    @Transactional
+    public ApiResponse<DepartmentMoveResponse> moveMembers(Long departmentId, DepartmentMoveRequest request,
+                                                           AuthenticatedUser requester) {
+        roleValidator.checkIfAdmin(requester);
+
+        Long target = request.getTargetDepartmentId();
+        if (target == null) {
+            throw new CustomException("Target department ID is required");
+        }
+        if (target.equals(departmentId)) {
+            throw new CustomException("Source and target department must differ");
+        }
+        lockDepartments(departmentId, target);
+
+        List<Long> employeeIds = request.getEmployeeIds();
+        LocalDateTime now = LocalDateTime.now();
+        int moved;
+        if (employeeIds == null) {
+            moved = userRepository.moveDepartmentMembers(
+                    departmentId, target, request.getRole(), request.getStatus(), now);
+        } else if (employeeIds.isEmpty()) {
+            moved = 0;
+        } else {
+            moved = userRepository.moveSelectedDepartmentMembers(
+                    departmentId, target, employeeIds, request.getRole(), request.getStatus(), now);
+        }
+        profileCache.evictAllAfterCommit();
+        headcount.invalidateAfterCommit();
+
+        log.info("{} members moved from department {} to {} by Admin {}", moved, departmentId, target, requester.getEmail());
+        return ApiResponse.success("Department members moved successfully", DepartmentMoveResponse.builder()
+                .sourceDepartmentId(departmentId)
+                .targetDepartmentId(target)
+                .movedEmployees(moved)
+                .build());
+    }
+
+    /**
+     * Dissolve a department (Admin only): reassign every member with one UPDATE, then delete it
+     */
+    @Transactional
+    public ApiResponse<DepartmentMoveResponse> dissolveDepartment(Long departmentId, Long reassignTo,
+                                                                  AuthenticatedUser requester) {
+        roleValidator.checkIfAdmin(requester);
+        if (departmentId.equals(reassignTo)) {
+            throw new CustomException("Cannot reassign members to the department being dissolved");
+        }
+        return ApiResponse.success("Department dissolved successfully", dissolve(departmentId, reassignTo, requester));
+    }
+
+    // Sub-departments move up to the dissolved department's parent
+    private DepartmentMoveResponse dissolve(Long departmentId, Long reassignTo, AuthenticatedUser requester) {
+        closureRepository.lockHierarchy();
+        Department department = lockDepartments(departmentId, reassignTo);
+
+        LocalDateTime now = LocalDateTime.now();
+        int moved = userRepository.moveDepartmentMembers(departmentId, reassignTo, null, null, now);
+        departmentRepository.reparentChildren(departmentId, department.getParentId(), now);
+        closureRepository.bypass(departmentId);
+        closureRepository.deleteNode(departmentId);
         departmentRepository.delete(department);
-        log.info("Department '{}' deleted by Admin {}", department.getName(), deleterEmail);
+        profileCache.evictAllAfterCommit();
+        headcount.invalidateAfterCommit();
+
+        log.info("Department '{}' deleted by Admin {}; {} members reassigned to {}",
+                department.getName(), requester.getEmail(), moved, reassignTo);
+        return DepartmentMoveResponse.builder()
+                .sourceDepartmentId(departmentId)
+                .targetDepartmentId(reassignTo)
+                .movedEmployees(moved)
+                .departmentDeleted(true)
+                .build();
+    }
+
+    // Locks the department and, if given, the other side of the move. Row locks are taken in id
+    // order, so two bulk operations on the same pair cannot deadlock.
+    private Department lockDepartments(Long departmentId, Long otherId) {
+        if (otherId != null && otherId < departmentId) {
+            lockDepartment(otherId);
+            return lockDepartment(departmentId);
+        }
+        Department department = lockDepartment(departmentId);
+        if (otherId != null) {
+            lockDepartment(otherId);
+        }
+        return department;
+    }
 
-        return ApiResponse.success("Department deleted successfully", null);
+    private Department lockDepartment(Long id) {
+        return departmentRepository.findAndLockById(id)
+                .orElseThrow(() -> new CustomException("Department not found with ID: " + id));
     }
 
     /**
-     * Get all departments (Admin only)
+     * Get all departments, one keyset page at a time (Admin only)
      */
-    public ApiResponse<List<DepartmentResponse>> getAllDepartments(String requesterEmail, String token) {
-        roleValidator.checkIfAdmin(token);
+    @Transactional(readOnly = true)
+    public ApiResponse<List<DepartmentResponse>> getAllDepartments(AuthenticatedUser requester, Long after, Integer limit) {
+        roleValidator.checkIfAdmin(requester);
 
-        List<DepartmentResponse> departments = departmentRepository.findAll()
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        int pageSize = KeysetPage.limit(limit);
+        List<DepartmentResponse> departments = departmentRepository.findResponsesAfter(
+                KeysetPage.after(after), KeysetPage.fetchLimit(pageSize));
 
-        log.info("All departments retrieved by {}", requesterEmail);
-        return ApiResponse.success("All departments fetched successfully", departments);
+        log.info("Departments page after {} retrieved by {}", after, requester.getEmail());
+        return KeysetPage.of("All departments fetched successfully", departments, pageSize,
+                DepartmentResponse::getId, Function.identity());
+    }
+
+    /**
+     * Version of every department page (Admin only): one aggregate over the table, read from the
+     * database on every call so the ETag agrees across instances
+     */
+    public ResourceVersion getAllDepartmentsVersion(AuthenticatedUser requester) {
+        roleValidator.checkIfAdmin(requester);
+        DepartmentRepository.TableVersion version = departmentRepository.findTableVersion();
+        return ResourceVersion.of("departments", version.getRowCount(), null, version.getLastModified());
     }
 
     /**
      * ✅ Get department by ID (Admin only)
      */
-    public ApiResponse<DepartmentResponse> getDepartmentById(Long id, String requesterEmail, String token) {
-        roleValidator.checkIfAdmin(token);
+    @Transactional(readOnly = true)
+    public ApiResponse<DepartmentResponse> getDepartmentById(Long id, AuthenticatedUser requester) {
+        roleValidator.checkIfAdmin(requester);
 
-        Department department = departmentRepository.findById(id)
+        DepartmentResponse department = departmentRepository.findResponseById(id)
+                .orElseThrow(() -> new CustomException("Department not found with ID: " + id));
+
+        log.info("Department '{}' details fetched by {}", department.getName(), requester.getEmail());
+        return ApiResponse.success("Department details fetched successfully", department);
+    }
+
+    /**
+     * Version of one department (Admin only), from the same uncached projection as the body:
+     * the second-level cache is per instance and could hand out an ETag older than the row
+     */
+    public ResourceVersion getDepartmentVersion(Long id, AuthenticatedUser requester) {
+        roleValidator.checkIfAdmin(requester);
+        DepartmentResponse department = departmentRepository.findResponseById(id)
                 .orElseThrow(() -> new CustomException("Department not found with ID: " + id));
+        return ResourceVersion.of("department", id, department.getCreatedAt(), department.getUpdatedAt());
+    }
+
+    /**
+     * Headcount of one department by status and role (Admin or Manager), served from memory
+     */
+    public ApiResponse<DepartmentHeadcountResponse> getHeadcount(Long departmentId, AuthenticatedUser requester) {
+        roleValidator.checkIfAdminOrManager(requester);
+        departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new CustomException("Department not found with ID: " + departmentId));
+
+        return ApiResponse.success("Department headcount fetched successfully", headcount.get(departmentId));
+    }
+
+    /**
+     * Headcount of every department (Admin or Manager); employees without one are listed last
+     */
+    public ApiResponse<List<DepartmentHeadcountResponse>> getAllHeadcounts(AuthenticatedUser requester) {
+        roleValidator.checkIfAdminOrManager(requester);
+        return ApiResponse.success("Department headcounts fetched successfully", headcount.getAll());
+    }
+
+    /**
+     * Every department below this one, at any depth (Admin or Manager)
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<List<DepartmentResponse>> getDescendants(Long id, AuthenticatedUser requester) {
+        roleValidator.checkIfAdminOrManager(requester);
+        departmentRepository.findById(id)
+                .orElseThrow(() -> new CustomException("Department not found with ID: " + id));
+
+        return ApiResponse.success("Sub-departments fetched successfully", departmentRepository.findDescendantResponses(id));
+    }
+
+    /**
+     * Employees of this department and every department below it, one keyset page at a time (Admin or Manager)
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserResponse>> getSubtreeEmployees(Long id, AuthenticatedUser requester,
+                                                               Long after, Integer limit) {
+        roleValidator.checkIfAdminOrManager(requester);
+        departmentRepository.findById(id)
+                .orElseThrow(() -> new CustomException("Department not found with ID: " + id));
+
+        int pageSize = KeysetPage.limit(limit);
+        List<UserResponse> users = userRepository.findResponsesInSubtreeAfter(
+                id, KeysetPage.after(after), KeysetPage.fetchLimit(pageSize));
 
-        log.info("Department '{}' details fetched by {}", department.getName(), requesterEmail);
-        return ApiResponse.success("Department details fetched successfully", toResponse(department));
+        return KeysetPage.of("Employees under department fetched successfully", users, pageSize,
+                UserResponse::getId, Function.identity());
     }
 
     private DepartmentResponse toResponse(Department department) {
@@ -116,6 +338,8 @@ public class DepartmentServiceImpl implements DepartmentService {
                 .description(department.getDescription())
                 .managerEmail(department.getManagerEmail())
                 .createdAt(department.getCreatedAt())
+                .updatedAt(department.getUpdatedAt())
+                .parentId(department.getParentId())
                 .build();
     }
 
@@ -131,6 +355,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         }
 
         department.setManagerEmail(manager.getEmail());
+        department.setUpdatedAt(LocalDateTime.now());
         departmentRepository.save(department);
 
         DepartmentResponse response = new DepartmentResponse(department);
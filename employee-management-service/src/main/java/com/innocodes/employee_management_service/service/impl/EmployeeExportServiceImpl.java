@@ -0,0 +1,229 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innocodes.employee_management_service.enums.ExportFormat;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeExportService;
+import com.innocodes.employee_management_service.utils.RoleValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Streams the employee directory straight from a forward-only JDBC cursor to the response.
+ * <p>
+ * PostgreSQL only honours the fetch size inside a transaction, so the query runs in a
+ * read-only one and the driver holds at most one fetch batch in memory. Writes go through
+ * a fixed-size buffer and are flushed every {@code flushRows} rows; a slow client blocks the
+ * servlet output stream, which in turn stops the cursor from advancing. Heap use is flat
+ * regardless of table size. The password column is never selected.
+ */
+@Slf4j
+@Service
+public class EmployeeExportServiceImpl implements EmployeeExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT id, first_name, last_name, email, role, department_id, status, created_at, updated_at " +
+            "FROM users ORDER BY id";
+
+    private static final String[] COLUMNS =
+            {"id", "firstName", "lastName", "email", "role", "departmentId", "status", "createdAt", "updatedAt"};
+
+    // createdAt/updatedAt are columns 8 and 9
+    private static final int FIRST_TIMESTAMP_COLUMN = 8;
+
+    // One format for both outputs and for the JSON API: 2025-01-31T09:05:00, fraction only when non-zero
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    // Leading characters a spreadsheet may evaluate; such fields get a ' prefix that the import strips again
+    static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final RoleValidator roleValidator;
+    private final int fetchSize;
+    private final int flushRows;
+
+    public EmployeeExportServiceImpl(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper,
+                                     RoleValidator roleValidator,
+                                     @Value("${employee.export.fetch-size:1000}") int fetchSize,
+                                     @Value("${employee.export.flush-rows:500}") int flushRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.roleValidator = roleValidator;
+        this.fetchSize = fetchSize;
+        this.flushRows = flushRows;
+    }
+
+    public StreamingResponseBody exportUsers(AuthenticatedUser requester, ExportFormat format) {
+        roleValidator.checkIfAdmin(requester);
+        log.info("Employee export ({}) started by Admin {}", format, requester.getEmail());
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_BYTES);
+            RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+            rowWriter.start();
+            long rows = streamRows(rowWriter);
+            rowWriter.flush();
+            log.info("Employee export ({}) finished: {} rows", format, rows);
+        };
+    }
+
+    private long streamRows(RowWriter rowWriter) throws IOException {
+        long[] count = {0};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.write(rs);
+                    if (++count[0] % flushRows == 0) {
+                        rowWriter.flush();
+                    }
+                } catch (IOException e) {
+                    // Client went away: abort the query and release the cursor
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            log.warn("Employee export aborted after {} rows: {}", count[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    private interface RowWriter {
+        default void start() throws IOException {
+        }
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        // Pushes buffered rows through to the socket
+        void flush() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writeField(i >= FIRST_TIMESTAMP_COLUMN ? formatTimestamp(rs.getTimestamp(i)) : rs.getString(i));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180 quoting; leading formula characters are neutralised for spreadsheet consumers
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean formula = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], rs.getLong(1));
+            generator.writeStringField(COLUMNS[1], rs.getString(2));
+            generator.writeStringField(COLUMNS[2], rs.getString(3));
+            generator.writeStringField(COLUMNS[3], rs.getString(4));
+            generator.writeStringField(COLUMNS[4], rs.getString(5));
+            long departmentId = rs.getLong(6);
+            if (rs.wasNull()) {
+                generator.writeNullField(COLUMNS[5]);
+            } else {
+                generator.writeNumberField(COLUMNS[5], departmentId);
+            }
+            generator.writeStringField(COLUMNS[6], rs.getString(7));
+            writeTimestamp(COLUMNS[7], rs.getTimestamp(8));
+            writeTimestamp(COLUMNS[8], rs.getTimestamp(9));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        // Flushes the generator's own buffer and then the underlying writer
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        private void writeTimestamp(String field, Timestamp value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeStringField(field, formatTimestamp(value));
+            }
+        }
+    }
+
+    private static String formatTimestamp(Timestamp value) {
+        return value == null ? null : TIMESTAMP_FORMAT.format(value.toLocalDateTime());
+    }
+}
@@ -0,0 +1,170 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.innocodes.employee_management_service.dto.request.EmployeeFilterRequest;
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.repository.UserSpecifications;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeFilterService;
+import com.innocodes.employee_management_service.utils.KeysetPage;
+import com.innocodes.employee_management_service.utils.RoleValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Filters the directory with {@link UserSpecifications}, paged by keyset on id or (createdAt, id).
+ * <p>
+ * Each accepted filter shape has an index to start from (V6 and V8 migrations): a department set,
+ * a createdAt/updatedAt range, status in id order ({@code (status, id)}), or status and role in
+ * createdAt order ({@code (status, role, created_at, id)}). Other shapes, such as role on its own or
+ * status alone in createdAt order, would walk the whole table looking for a page of matches; once
+ * the table holds more than {@code fullScanGuardRows} rows they are rejected. The size check reads
+ * the planner's estimate, refreshed every few minutes, never COUNT(*).
+ */
+@Slf4j
+@Service
+public class EmployeeFilterServiceImpl implements EmployeeFilterService {
+
+    private static final Duration ROW_ESTIMATE_TTL = Duration.ofMinutes(5);
+
+    private final UserRepository userRepository;
+    private final RoleValidator roleValidator;
+    private final long fullScanGuardRows;
+
+    private volatile long rowEstimate;
+    private volatile long rowEstimateExpiresAt; // epoch millis; 0 until the first read
+
+    public EmployeeFilterServiceImpl(UserRepository userRepository,
+                                     RoleValidator roleValidator,
+                                     @Value("${employee.filter.full-scan-guard-rows:50000}") long fullScanGuardRows) {
+        this.userRepository = userRepository;
+        this.roleValidator = roleValidator;
+        this.fullScanGuardRows = fullScanGuardRows;
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserResponse>> filterUsers(AuthenticatedUser requester, EmployeeFilterRequest filter) {
+        roleValidator.checkIfAdmin(requester);
+
+        Sort.Order order = parseSort(filter.getSort());
+        checkRange("created", filter.getCreatedFrom(), filter.getCreatedTo());
+        checkRange("updated", filter.getUpdatedFrom(), filter.getUpdatedTo());
+        boolean byCreatedAt = order.getProperty().equals("createdAt");
+        guardAgainstFullScan(filter, byCreatedAt);
+
+        List<Specification<User>> specifications = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            specifications.add(UserSpecifications.hasStatus(filter.getStatus()));
+        }
+        if (filter.getRole() != null) {
+            specifications.add(UserSpecifications.hasRole(filter.getRole()));
+        }
+        if (hasDepartments(filter)) {
+            specifications.add(UserSpecifications.inDepartments(filter.getDepartmentIds()));
+        }
+        if (filter.getCreatedFrom() != null || filter.getCreatedTo() != null) {
+            specifications.add(UserSpecifications.createdWithin(filter.getCreatedFrom(), filter.getCreatedTo()));
+        }
+        if (filter.getUpdatedFrom() != null || filter.getUpdatedTo() != null) {
+            specifications.add(UserSpecifications.updatedWithin(filter.getUpdatedFrom(), filter.getUpdatedTo()));
+        }
+
+        // Rows without a creation time cannot take part in a createdAt keyset
+        if (byCreatedAt) {
+            specifications.add(UserSpecifications.hasCreatedAt());
+        }
+        if (filter.getAfter() != null) {
+            specifications.add(byCreatedAt
+                    ? UserSpecifications.createdAtAfter(cursorCreatedAt(filter.getAfter()), filter.getAfter(), order.getDirection())
+                    : UserSpecifications.idAfter(filter.getAfter(), order.getDirection()));
+        }
+
+        Sort sort = byCreatedAt ? Sort.by(order, new Sort.Order(order.getDirection(), "id")) : Sort.by(order);
+        int pageSize = KeysetPage.limit(filter.getLimit());
+        List<UserResponse> users = userRepository.findResponses(
+                Specification.allOf(specifications), sort, KeysetPage.fetchLimit(pageSize).max());
+
+        return KeysetPage.of("Filtered users fetched successfully", users, pageSize, UserResponse::getId, Function.identity());
+    }
+
+    private void guardAgainstFullScan(EmployeeFilterRequest filter, boolean byCreatedAt) {
+        if (hasIndexedShape(filter, byCreatedAt)) {
+            return;
+        }
+        long rows = estimatedRows();
+        if (rows > fullScanGuardRows) {
+            log.warn("Rejected unindexed user filter over ~{} rows", rows);
+            throw new CustomException("Filter too broad for " + rows + " users: add departmentIds, a createdAt/updatedAt "
+                    + "range, or a status (with a role when sorting by createdAt)");
+        }
+    }
+
+    private static boolean hasIndexedShape(EmployeeFilterRequest filter, boolean byCreatedAt) {
+        if (hasDepartments(filter)
+                || filter.getCreatedFrom() != null || filter.getCreatedTo() != null
+                || filter.getUpdatedFrom() != null || filter.getUpdatedTo() != null) {
+            return true;
+        }
+        if (filter.getStatus() != null) {
+            // (status, id) gives id order; createdAt order needs role too, to follow (status, role, created_at, id)
+            return !byCreatedAt || filter.getRole() != null;
+        }
+        // No filter at all is a plain keyset walk of an index, not a scan for matches
+        return filter.getRole() == null;
+    }
+
+    private long estimatedRows() {
+        long now = System.currentTimeMillis();
+        if (now >= rowEstimateExpiresAt) {
+            rowEstimate = userRepository.estimateRowCount();
+            rowEstimateExpiresAt = now + ROW_ESTIMATE_TTL.toMillis();
+        }
+        return rowEstimate;
+    }
+
+    private LocalDateTime cursorCreatedAt(Long after) {
+        return userRepository.findCreatedAtById(after)
+                .orElseThrow(() -> new CustomException("Invalid cursor: no user with ID " + after));
+    }
+
+    private static boolean hasDepartments(EmployeeFilterRequest filter) {
+        return filter.getDepartmentIds() != null && !filter.getDepartmentIds().isEmpty();
+    }
+
+    private static void checkRange(String name, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new CustomException(name + "From must be before " + name + "To");
+        }
+    }
+
+    // "id", "createdAt", optionally with ",asc" or ",desc"
+    private static Sort.Order parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.Order.asc("id");
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!property.equals("id") && !property.equals("createdAt") || parts.length > 2) {
+            throw new CustomException("Unsupported sort: " + sort + " (use id or createdAt, optionally ,asc or ,desc)");
+        }
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim().toUpperCase(Locale.ROOT))
+                        .orElseThrow(() -> new CustomException("Unsupported sort direction: " + parts[1]))
+                : Sort.Direction.ASC;
+        return new Sort.Order(direction, property);
+    }
+}
@@ -0,0 +1,229 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innocodes.employee_management_service.dto.request.EmployeeRequest;
+import com.innocodes.employee_management_service.enums.ImportFormat;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Pulls import records one at a time from a CSV or JSON-array upload, so memory stays flat
+ * however large the file is. A record that cannot be mapped comes back with an error instead
+ * of aborting the import; only input that cannot be read any further throws.
+ */
+abstract class EmployeeImportReader implements Closeable {
+
+    /**
+     * @param number  1-based record position, header excluded
+     * @param email   best-effort email for the report, also when the record is invalid
+     * @param request mapped record, {@code null} when {@code error} is set
+     */
+    record Row(long number, String email, EmployeeRequest request, String error) {
+    }
+
+    protected long rowNumber;
+
+    static EmployeeImportReader open(InputStream in, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        return format == ImportFormat.CSV ? new CsvReader(in) : new JsonArrayReader(in, objectMapper);
+    }
+
+    // Next record, or null once the input is exhausted
+    abstract Row next() throws IOException;
+
+    long rowsRead() {
+        return rowNumber;
+    }
+
+    /**
+     * RFC 4180 CSV with a header row naming the columns, in any order. Names are matched
+     * case-insensitively, with or without underscores, so an export file imports as-is.
+     */
+    private static final class CsvReader extends EmployeeImportReader {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvReader(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new CustomException("Import file is empty");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(normalise(header.get(i)), i);
+            }
+            if (!columns.containsKey("email")) {
+                throw new CustomException("CSV header must include an email column");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            long number = ++rowNumber;
+            String email = field(fields, "email");
+            Long departmentId = null;
+            String department = field(fields, "departmentid");
+            if (department != null) {
+                try {
+                    departmentId = Long.valueOf(department);
+                } catch (NumberFormatException e) {
+                    return new Row(number, email, null, "Invalid departmentId: " + department);
+                }
+            }
+            Role role = null;
+            String roleName = field(fields, "role");
+            if (roleName != null) {
+                try {
+                    role = Role.valueOf(roleName.toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    return new Row(number, email, null, "Invalid role: " + roleName);
+                }
+            }
+
+            EmployeeRequest request = EmployeeRequest.builder()
+                    .firstName(field(fields, "firstname"))
+                    .lastName(field(fields, "lastname"))
+                    .email(email)
+                    .role(role)
+                    .departmentId(departmentId)
+                    .status(field(fields, "status"))
+                    .build();
+            return new Row(number, email, request, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            if (value.isEmpty()) {
+                return null;
+            }
+            // Undo the export's spreadsheet-formula neutralisation
+            if (value.length() > 1 && value.charAt(0) == '\''
+                    && EmployeeExportServiceImpl.FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0) {
+                return value.substring(1);
+            }
+            return value;
+        }
+
+        // One record; quoted fields may contain commas, doubled quotes and line breaks
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int n = reader.read();
+                        if (n == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (n != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            if (quoted) {
+                throw new EOFException("Unterminated quoted field in record " + (rowNumber + 1));
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private static String normalise(String column) {
+            return column.replace("\uFEFF", "").replace("_", "").trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * A top-level JSON array of employee objects. Each element is read as a tree first, so a
+     * badly typed field fails that element only and the parser stays on the next one.
+     */
+    private static final class JsonArrayReader extends EmployeeImportReader {
+
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+
+        JsonArrayReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new CustomException("JSON import must be an array of employees");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            long number = ++rowNumber;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return new Row(number, null, null, "Expected an employee object");
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            String email = node.path("email").asText(null);
+            try {
+                return new Row(number, email, objectMapper.treeToValue(node, EmployeeRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(number, email, null, "Invalid record: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
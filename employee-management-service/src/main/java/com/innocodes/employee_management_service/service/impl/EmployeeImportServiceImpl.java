@@ -0,0 +1,229 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innocodes.employee_management_service.dto.request.EmployeeRequest;
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.EmployeeImportReport;
+import com.innocodes.employee_management_service.dto.response.ImportRowResult;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.ImportFormat;
+import com.innocodes.employee_management_service.enums.ImportRowStatus;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.repository.DepartmentRepository;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeImportService;
+import com.innocodes.employee_management_service.utils.RoleValidator;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk-creates employees from an uploaded file.
+ * <p>
+ * Records are read and validated one at a time and queued; every {@code batchSize} valid rows
+ * are checked against existing emails with one query and inserted in one transaction. User IDs
+ * come from a pooled sequence, so Hibernate sends the inserts as JDBC batches (rewritten into
+ * multi-row INSERTs by the driver) instead of one round trip per row. Inserted users skip the
+ * second-level cache. Imported accounts get no usable password: they are stored with
+ * {@link User#PASSWORD_RESET_REQUIRED}, which no password matches, and auth-service makes the
+ * user set one on first login. The import path therefore does no BCrypt work at all.
+ */
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final UserRepository userRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final RoleValidator roleValidator;
+    private final DepartmentHeadcount headcount;
+    private final int batchSize;
+
+    public EmployeeImportServiceImpl(UserRepository userRepository,
+                                     DepartmentRepository departmentRepository,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper,
+                                     RoleValidator roleValidator,
+                                     DepartmentHeadcount headcount,
+                                     @Value("${employee.import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.departmentRepository = departmentRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.roleValidator = roleValidator;
+        this.headcount = headcount;
+        this.batchSize = batchSize;
+    }
+
+    public ApiResponse<EmployeeImportReport> importUsers(AuthenticatedUser requester, MultipartFile file, ImportFormat format) {
+        roleValidator.checkIfAdmin(requester);
+        long started = System.nanoTime();
+
+        ImportRun run = new ImportRun();
+        try (InputStream in = file.getInputStream();
+             EmployeeImportReader reader = EmployeeImportReader.open(in, format, objectMapper)) {
+            try {
+                EmployeeImportReader.Row row;
+                while ((row = reader.next()) != null) {
+                    run.accept(row);
+                }
+            } catch (IOException e) {
+                // Nothing after this point can be parsed; rows already read still get imported
+                run.reject(reader.rowsRead() + 1, null, ImportRowStatus.INVALID, "Import stopped: " + e.getMessage());
+            }
+        } catch (IOException e) {
+            run.reject(1, null, ImportRowStatus.INVALID, "Unreadable upload: " + e.getMessage());
+        }
+        run.flush();
+
+        EmployeeImportReport report = run.report((System.nanoTime() - started) / 1_000_000);
+        log.info("Employee import ({}) by Admin {}: {} rows, {} created, {} duplicates, {} invalid, {} failed in {} ms",
+                format, requester.getEmail(), report.getTotal(), report.getCreated(), report.getDuplicates(),
+                report.getInvalid(), report.getFailed(), report.getElapsedMillis());
+        return ApiResponse.success("Employee import finished", report);
+    }
+
+    private record Pending(long row, EmployeeRequest request) {
+    }
+
+    // State of one upload: queued rows, emails seen so far and the growing report
+    private final class ImportRun {
+
+        private final List<ImportRowResult> results = new ArrayList<>();
+        private final List<Pending> batch = new ArrayList<>(batchSize);
+        private final Map<String, Long> seenEmails = new HashMap<>();
+        private final Map<Long, Boolean> knownDepartments = new HashMap<>();
+
+        void accept(EmployeeImportReader.Row row) {
+            if (row.error() != null) {
+                reject(row.number(), row.email(), ImportRowStatus.INVALID, row.error());
+                return;
+            }
+            EmployeeRequest request = row.request();
+            String email = request.getEmail() == null ? null : request.getEmail().trim();
+            if (email == null || !EMAIL.matcher(email).matches()) {
+                reject(row.number(), email, ImportRowStatus.INVALID, "Invalid email");
+                return;
+            }
+            request.setEmail(email);
+            if (request.getDepartmentId() != null
+                    && !knownDepartments.computeIfAbsent(request.getDepartmentId(), departmentRepository::existsById)) {
+                reject(row.number(), email, ImportRowStatus.INVALID, "Invalid department ID");
+                return;
+            }
+            Long firstSeen = seenEmails.putIfAbsent(email, row.number());
+            if (firstSeen != null) {
+                reject(row.number(), email, ImportRowStatus.DUPLICATE, "Email repeats row " + firstSeen);
+                return;
+            }
+
+            batch.add(new Pending(row.number(), request));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long row, String email, ImportRowStatus status, String message) {
+            results.add(ImportRowResult.builder().row(row).email(email).status(status).message(message).build());
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<String> emails = batch.stream().map(pending -> pending.request().getEmail()).toList();
+            Set<String> existing = userRepository.findExistingEmails(emails);
+
+            List<Pending> fresh = new ArrayList<>(batch.size());
+            for (Pending pending : batch) {
+                if (existing.contains(pending.request().getEmail())) {
+                    reject(pending.row(), pending.request().getEmail(), ImportRowStatus.DUPLICATE, "Email already exists");
+                } else {
+                    fresh.add(pending);
+                }
+            }
+            batch.clear();
+
+            try {
+                insert(fresh);
+            } catch (DataIntegrityViolationException e) {
+                // Lost a race with a concurrent registration: retry row by row to isolate the conflict
+                for (Pending pending : fresh) {
+                    try {
+                        insert(List.of(pending));
+                    } catch (DataIntegrityViolationException rowFailure) {
+                        reject(pending.row(), pending.request().getEmail(), ImportRowStatus.FAILED,
+                                "Rejected by the database: " + rowFailure.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+        }
+
+        // One transaction and one JDBC batch per call
+        private void insert(List<Pending> pending) {
+            List<ImportRowResult> created = transactionTemplate.execute(status -> {
+                Session session = entityManager.unwrap(Session.class);
+                session.setJdbcBatchSize(batchSize);
+                session.setCacheMode(CacheMode.IGNORE);
+
+                LocalDateTime now = LocalDateTime.now();
+                List<ImportRowResult> rows = new ArrayList<>(pending.size());
+                for (Pending p : pending) {
+                    EmployeeRequest request = p.request();
+                    User user = User.builder()
+                            .firstName(request.getFirstName())
+                            .lastName(request.getLastName())
+                            .email(request.getEmail())
+                            .password(User.PASSWORD_RESET_REQUIRED)
+                            .role(request.getRole() != null ? request.getRole() : Role.EMPLOYEE)
+                            .departmentId(request.getDepartmentId())
+                            .status(request.getStatus())
+                            .createdAt(now)
+                            .build();
+                    entityManager.persist(user);
+                    headcount.added(DepartmentHeadcount.Bucket.of(user));
+                    rows.add(ImportRowResult.builder()
+                            .row(p.row()).email(user.getEmail()).status(ImportRowStatus.CREATED).id(user.getId())
+                            .build());
+                }
+                return rows;
+            });
+            results.addAll(created);
+        }
+
+        EmployeeImportReport report(long elapsedMillis) {
+            results.sort(Comparator.comparingLong(ImportRowResult::getRow));
+            Map<ImportRowStatus, Long> counts = new EnumMap<>(ImportRowStatus.class);
+            results.forEach(result -> counts.merge(result.getStatus(), 1L, Long::sum));
+            return EmployeeImportReport.builder()
+                    .total(results.size())
+                    .created(counts.getOrDefault(ImportRowStatus.CREATED, 0L))
+                    .duplicates(counts.getOrDefault(ImportRowStatus.DUPLICATE, 0L))
+                    .invalid(counts.getOrDefault(ImportRowStatus.INVALID, 0L))
+                    .failed(counts.getOrDefault(ImportRowStatus.FAILED, 0L))
+                    .elapsedMillis(elapsedMillis)
+                    .rows(results)
+                    .build();
+        }
+    }
+}
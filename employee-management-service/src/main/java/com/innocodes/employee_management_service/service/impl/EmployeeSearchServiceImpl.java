@@ -0,0 +1,134 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeSearchService;
+import com.innocodes.employee_management_service.utils.RoleValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Type-ahead search on the start of first name, last name and email. Only the beginning of each
+ * column is matched, not words inside it: "ann" finds Ann and Annabel but not Mary Ann. The V5
+ * migration header calls these "word-prefix matches"; its indexes serve column prefixes only, and
+ * that is all this search does.
+ * <p>
+ * A single word is matched against each field by its own index range scan (V5 migration), each
+ * stopped after {@code limit} rows. Two or more words are a full name in either order: the first
+ * word starts one name and either the remaining words start the other name ("mary smith" finds
+ * Mary Ann Smith) or the whole query starts the full name ("mary ann smith" finds first name
+ * Mary Ann, last name Smith). The union of at most a few pages is then ranked: exact matches first, then the shortest
+ * completion of what was typed, then first name before last name before email. Work per request
+ * is bounded by the page size rather than by how many employees match.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeSearchServiceImpl implements EmployeeSearchService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+    static final int MIN_QUERY_LENGTH = 2;
+    static final int MAX_QUERY_LENGTH = 100;
+
+    private static final String COLUMNS =
+            "u.id, u.first_name, u.last_name, u.email, u.role, u.department_id, u.status, u.created_at, u.updated_at";
+
+    // Must match the indexed expressions exactly
+    private static final String FIRST = "lower(u.first_name) COLLATE \"C\"";
+    private static final String LAST = "lower(u.last_name) COLLATE \"C\"";
+    private static final String EMAIL = "lower(u.email) COLLATE \"C\"";
+
+    private static final String WORD_SQL = ranked(
+            "(SELECT " + COLUMNS + ", " + FIRST + " AS hit, 1 AS field FROM users u WHERE " + FIRST + " LIKE :prefix " +
+                    "ORDER BY " + FIRST + ", " + LAST + ", u.id LIMIT :limit) " +
+            "UNION ALL (SELECT " + COLUMNS + ", " + LAST + ", 2 FROM users u WHERE " + LAST + " LIKE :prefix " +
+                    "ORDER BY " + LAST + ", " + FIRST + ", u.id LIMIT :limit) " +
+            "UNION ALL (SELECT " + COLUMNS + ", " + EMAIL + ", 3 FROM users u WHERE " + EMAIL + " LIKE :prefix " +
+                    "ORDER BY " + EMAIL + ", u.id LIMIT :limit)");
+
+    private static final String FULL_NAME_SQL = ranked(
+            "(SELECT " + COLUMNS + ", " + FIRST + " || ' ' || " + LAST + " AS hit, 1 AS field FROM users u " +
+                    "WHERE " + FIRST + " LIKE :prefix " +
+                    "AND (" + LAST + " LIKE :rest OR " + FIRST + " || ' ' || " + LAST + " LIKE :full) " +
+                    "ORDER BY " + FIRST + ", " + LAST + ", u.id LIMIT :limit) " +
+            "UNION ALL (SELECT " + COLUMNS + ", " + LAST + " || ' ' || " + FIRST + ", 2 FROM users u " +
+                    "WHERE " + LAST + " LIKE :prefix " +
+                    "AND (" + FIRST + " LIKE :rest OR " + LAST + " || ' ' || " + FIRST + " LIKE :full) " +
+                    "ORDER BY " + LAST + ", " + FIRST + ", u.id LIMIT :limit)");
+
+    private static final RowMapper<UserResponse> USER_RESPONSE = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return UserResponse.builder()
+                .id(rs.getLong("id"))
+                .firstName(rs.getString("first_name"))
+                .lastName(rs.getString("last_name"))
+                .email(rs.getString("email"))
+                .role(Role.valueOf(rs.getString("role")))
+                .departmentId(rs.getObject("department_id", Long.class))
+                .status(rs.getString("status"))
+                .createdAt(createdAt == null ? null : createdAt.toLocalDateTime())
+                .updatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime())
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final RoleValidator roleValidator;
+
+    // No surrounding transaction: one autocommit SELECT per keystroke
+    public ApiResponse<List<UserResponse>> search(AuthenticatedUser requester, String query, Integer limit) {
+        roleValidator.checkIfAdmin(requester);
+
+        String term = normalise(query);
+        int pageSize = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        int space = term.indexOf(' ');
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("limit", pageSize);
+        List<UserResponse> users;
+        if (space < 0) {
+            params.addValue("prefix", likePrefix(term));
+            users = jdbcTemplate.query(WORD_SQL, params, USER_RESPONSE);
+        } else {
+            params.addValue("prefix", likePrefix(term.substring(0, space)));
+            params.addValue("rest", likePrefix(term.substring(space + 1)));
+            params.addValue("full", likePrefix(term));
+            users = jdbcTemplate.query(FULL_NAME_SQL, params, USER_RESPONSE);
+        }
+
+        return ApiResponse.success("Search results fetched successfully", users);
+    }
+
+    // Lower-cased, trimmed, inner whitespace collapsed to single spaces
+    static String normalise(String query) {
+        String term = query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_QUERY_LENGTH || term.length() > MAX_QUERY_LENGTH) {
+            throw new CustomException("Search term must be between " + MIN_QUERY_LENGTH + " and "
+                    + MAX_QUERY_LENGTH + " characters");
+        }
+        return term;
+    }
+
+    // Typed text is matched literally: LIKE wildcards are escaped before the trailing %
+    static String likePrefix(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    // Best row per employee across the branches, then the overall ranking
+    private static String ranked(String branches) {
+        return "SELECT id, first_name, last_name, email, role, department_id, status, created_at, updated_at FROM (" +
+                "SELECT DISTINCT ON (id) * FROM (" + branches + ") hits ORDER BY id, field" +
+                ") best ORDER BY hit = :term DESC, length(hit), field, hit, id LIMIT :limit";
+    }
+}
@@ -8,15 +8,19 @@ import com.innocodes.employee_management_service.enums.Role;
 import com.innocodes.employee_management_service.exceptions.CustomException;
 import com.innocodes.employee_management_service.repository.DepartmentRepository;
 import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
 import com.innocodes.employee_management_service.service.EmployeeService;
+import com.innocodes.employee_management_service.utils.KeysetPage;
+import com.innocodes.employee_management_service.utils.ResourceVersion;
 import com.innocodes.employee_management_service.utils.RoleValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -26,12 +30,15 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
     private final RoleValidator roleValidator;
+    private final ProfileCache profileCache;
+    private final DepartmentHeadcount headcount;
 
-    public ApiResponse<UserResponse> updateUser(Long id, EmployeeRequest request, String updaterEmail, String token) {
-        roleValidator.checkIfAdmin(token);
+    public ApiResponse<UserResponse> updateUser(Long id, EmployeeRequest request, AuthenticatedUser updater) {
+        roleValidator.checkIfAdmin(updater);
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new CustomException("User not found"));
+        DepartmentHeadcount.Bucket before = DepartmentHeadcount.Bucket.of(user);
 
         if (request.getDepartmentId() != null) {
             departmentRepository.findById(request.getDepartmentId())
@@ -45,54 +52,88 @@ public class EmployeeServiceImpl implements EmployeeService {
         user.setUpdatedAt(LocalDateTime.now());
 
         userRepository.save(user);
+        profileCache.evict(user.getEmail());
+        headcount.changed(before, DepartmentHeadcount.Bucket.of(user));
 
-        log.info("User {} updated by Admin {}", user.getEmail(), updaterEmail);
+        log.info("User {} updated by Admin {}", user.getEmail(), updater.getEmail());
         return ApiResponse.success("User updated successfully", toResponse(user));
     }
 
-    public ApiResponse<Void> deleteUser(Long id, String deleterEmail, String token) {
-        roleValidator.checkIfAdmin(token);
+    public ApiResponse<Void> deleteUser(Long id, AuthenticatedUser deleter) {
+        roleValidator.checkIfAdmin(deleter);
 
-        userRepository.deleteById(id);
-        log.info("User with ID {} deleted by Admin {}", id, deleterEmail);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            profileCache.evict(user.getEmail());
+            headcount.removed(DepartmentHeadcount.Bucket.of(user));
+        });
+        log.info("User with ID {} deleted by Admin {}", id, deleter.getEmail());
         return ApiResponse.success("User deleted successfully", null);
     }
 
-    public ApiResponse<List<UserResponse>> getAllUsers(String requesterEmail, String token) {
-        roleValidator.checkIfAdmin(token);
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserResponse>> getAllUsers(AuthenticatedUser requester, Long after, Integer limit) {
+        roleValidator.checkIfAdmin(requester);
 
-        List<UserResponse> users = userRepository.findAll()
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        int pageSize = KeysetPage.limit(limit);
+        List<UserResponse> users = userRepository.findResponsesAfter(
+                KeysetPage.after(after), KeysetPage.fetchLimit(pageSize));
 
-        return ApiResponse.success("All users fetched successfully", users);
+        return KeysetPage.of("All users fetched successfully", users, pageSize, UserResponse::getId, Function.identity());
     }
 
-    public ApiResponse<UserResponse> getUser(String email, String token, Long id) {
-        roleValidator.checkIfAdmin(token);
-        userRepository.findById(id);
-        log.info("User with ID {} fetched by Admin {}", id, email);
-        return ApiResponse.success("User fetched successfully", toResponse(userRepository.findById(id).get()));
+    @Transactional(readOnly = true)
+    public ApiResponse<UserResponse> getUser(AuthenticatedUser requester, Long id) {
+        roleValidator.checkIfAdmin(requester);
+        UserResponse user = userRepository.findResponseById(id)
+                .orElseThrow(() -> new CustomException("User not found"));
+        log.info("User with ID {} fetched by Admin {}", id, requester.getEmail());
+        return ApiResponse.success("User fetched successfully", user);
     }
 
-    public ApiResponse<List<UserResponse>> getUsersByDepartment(Long departmentId, String managerEmail) {
-        User manager = userRepository.findByEmail(managerEmail)
-                .orElseThrow(() -> new CustomException("Unauthorized access"));
+    // Primary-key lookup of two timestamps, instead of the whole row
+    public ResourceVersion getUserVersion(AuthenticatedUser requester, Long id) {
+        roleValidator.checkIfAdmin(requester);
+        UserRepository.Timestamps timestamps = userRepository.findTimestampsById(id)
+                .orElseThrow(() -> new CustomException("User not found"));
+        return ResourceVersion.of("user", id, timestamps.getCreatedAt(), timestamps.getUpdatedAt());
+    }
 
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserResponse>> getUsersByDepartment(Long departmentId, AuthenticatedUser requester,
+                                                                Long after, Integer limit) {
+        // Role from the users row, not the token: a manager demoted since login loses access at once
+        UserResponse manager = userRepository.findResponseByEmail(requester.getEmail())
+                .orElseThrow(() -> new CustomException("Unauthorized access"));
         if (manager.getRole() != Role.MANAGER) {
             throw new CustomException("Only Managers can view department employees");
         }
 
-        List<UserResponse> users = userRepository.findByDepartmentId(departmentId)
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        int pageSize = KeysetPage.limit(limit);
+        List<UserResponse> users = userRepository.findResponsesByDepartmentAfter(
+                departmentId, KeysetPage.after(after), KeysetPage.fetchLimit(pageSize));
 
-        return ApiResponse.success("Users in department fetched successfully", users);
+        return KeysetPage.of("Users in department fetched successfully", users, pageSize, UserResponse::getId, Function.identity());
     }
 
+    // No surrounding transaction: a cache hit must not borrow a connection
     public ApiResponse<UserResponse> getMyProfile(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new CustomException("User not found"));
+        return ApiResponse.success("Profile fetched successfully", loadProfile(userEmail));
+    }
 
-        return ApiResponse.success("Profile fetched successfully", toResponse(user));
+    // Taken from the same cached profile the body is built from, so the two always agree
+    public ResourceVersion getMyProfileVersion(String userEmail) {
+        UserResponse user = loadProfile(userEmail);
+        return ResourceVersion.of("user", user.getId(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    private UserResponse loadProfile(String userEmail) {
+        UserResponse user = profileCache.get(userEmail,
+                email -> userRepository.findResponseByEmail(email).orElse(null));
+        if (user == null) {
+            throw new CustomException("User not found");
+        }
+        return user;
     }
 
     private UserResponse toResponse(User user) {
@@ -105,6 +146,7 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .status(user.getStatus())
                 .departmentId(user.getDepartmentId())
                 .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
                 .build();
     }
 
@@ -0,0 +1,104 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of built {@link UserResponse}s keyed by email, in front of GET /employees/me.
+ */
+@Component
+public class ProfileCache implements MeterBinder {
+
+    // Every front-end page load asks for the caller's profile; keep recent ones off the DB.
+    // Entries are futures, so a load runs outside the map's bin lock (no pinned carrier on virtual threads).
+    private final AsyncCache<String, UserResponse> cache;
+
+    public ProfileCache(@Value("${employee.profile-cache.ttl:10m}") Duration ttl,
+                        @Value("${employee.profile-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns the cached profile or loads it once: concurrent callers for the same email wait on
+     * the single in-flight load instead of each querying. A {@code null} from the loader is not
+     * cached, so a user registered through auth-service is visible on their very first call.
+     */
+    public UserResponse get(String email, Function<String, UserResponse> loader) {
+        CompletableFuture<UserResponse> ours = new CompletableFuture<>();
+        CompletableFuture<UserResponse> future = cache.get(email, (key, executor) -> ours);
+        if (future == ours) {
+            // This caller won the race: load on its own thread; a null or failed result is not kept
+            try {
+                ours.complete(loader.apply(email));
+            } catch (RuntimeException | Error e) {
+                ours.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant for the reactive read server: same entries and same single in-flight
+     * load per email, but the loader returns a future and nothing waits on it. A future completing
+     * with {@code null} or exceptionally is dropped by the cache.
+     */
+    public CompletableFuture<UserResponse> getAsync(String email, Function<String, CompletableFuture<UserResponse>> loader) {
+        return cache.get(email, (key, executor) -> loader.apply(key));
+    }
+
+    // ✅ Call after the write has committed: a load still in flight for the key is dropped, not cached
+    public void evict(String email) {
+        if (email != null) {
+            cache.synchronous().invalidate(email);
+        }
+    }
+
+    // ✅ For writes that touch many users at once
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    // ✅ For bulk writes inside a transaction: evict once it commits, so no load can re-cache the old rows
+    public void evictAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll();
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "employee.profiles");
+    }
+}
@@ -0,0 +1,110 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.ReactiveDepartmentRepository;
+import com.innocodes.employee_management_service.repository.ReactiveUserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.ReactiveReadService;
+import com.innocodes.employee_management_service.utils.KeysetPage;
+import com.innocodes.employee_management_service.utils.ResourceVersion;
+import com.innocodes.employee_management_service.utils.RoleValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads for the reactive read server. Role checks, messages and paging match
+ * {@link EmployeeServiceImpl} and {@link DepartmentServiceImpl}; queries go through R2DBC, so no
+ * thread waits on the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "employee.reactive-reads.enabled", havingValue = "true")
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveDepartmentRepository departmentRepository;
+    private final RoleValidator roleValidator;
+    private final ProfileCache profileCache;
+
+    // Shares entries and evictions with the servlet path; concurrent callers share one query
+    public Mono<ApiResponse<UserResponse>> getMyProfile(String userEmail) {
+        // suppressCancel: a disconnecting client must not cancel a load other callers are waiting on
+        return Mono.fromFuture(() -> profileCache.getAsync(userEmail,
+                        email -> userRepository.findResponseByEmail(email).toFuture()), true)
+                .switchIfEmpty(Mono.error(() -> new CustomException("User not found")))
+                .map(user -> ApiResponse.success("Profile fetched successfully", user));
+    }
+
+    public Mono<ApiResponse<UserResponse>> getUser(AuthenticatedUser requester, Long id) {
+        return Mono.fromRunnable(() -> roleValidator.checkIfAdmin(requester))
+                .then(userRepository.findResponseById(id))
+                .switchIfEmpty(Mono.error(() -> new CustomException("User not found")))
+                .map(user -> {
+                    log.info("User with ID {} fetched by Admin {}", id, requester.getEmail());
+                    return ApiResponse.success("User fetched successfully", user);
+                });
+    }
+
+    public Mono<ApiResponse<List<UserResponse>>> getAllUsers(AuthenticatedUser requester, Long after, Integer limit) {
+        int pageSize = KeysetPage.limit(limit);
+        return Mono.fromRunnable(() -> roleValidator.checkIfAdmin(requester))
+                .thenMany(userRepository.findResponsesAfter(KeysetPage.after(after), KeysetPage.fetchLimit(pageSize).max()))
+                .collectList()
+                .map(users -> KeysetPage.of("All users fetched successfully", users, pageSize,
+                        UserResponse::getId, Function.identity()));
+    }
+
+    public Mono<ApiResponse<List<UserResponse>>> getUsersByDepartment(Long departmentId, AuthenticatedUser requester,
+                                                                      Long after, Integer limit) {
+        int pageSize = KeysetPage.limit(limit);
+        // Same check as the servlet path: the role comes from the users row, not the token
+        return userRepository.findResponseByEmail(requester.getEmail())
+                .switchIfEmpty(Mono.error(() -> new CustomException("Unauthorized access")))
+                .filter(manager -> manager.getRole() == Role.MANAGER)
+                .switchIfEmpty(Mono.error(() -> new CustomException("Only Managers can view department employees")))
+                .thenMany(userRepository.findResponsesByDepartmentAfter(departmentId, KeysetPage.after(after),
+                        KeysetPage.fetchLimit(pageSize).max()))
+                .collectList()
+                .map(users -> KeysetPage.of("Users in department fetched successfully", users, pageSize,
+                        UserResponse::getId, Function.identity()));
+    }
+
+    public Mono<ApiResponse<DepartmentResponse>> getDepartmentById(Long id, AuthenticatedUser requester) {
+        return Mono.fromRunnable(() -> roleValidator.checkIfAdmin(requester))
+                .then(departmentRepository.findResponseById(id))
+                .switchIfEmpty(Mono.error(() -> new CustomException("Department not found with ID: " + id)))
+                .map(department -> {
+                    log.info("Department '{}' details fetched by {}", department.getName(), requester.getEmail());
+                    return ApiResponse.success("Department details fetched successfully", department);
+                });
+    }
+
+    public Mono<ApiResponse<List<DepartmentResponse>>> getAllDepartments(AuthenticatedUser requester, Long after, Integer limit) {
+        int pageSize = KeysetPage.limit(limit);
+        return Mono.fromRunnable(() -> roleValidator.checkIfAdmin(requester))
+                .thenMany(departmentRepository.findResponsesAfter(KeysetPage.after(after), KeysetPage.fetchLimit(pageSize).max()))
+                .collectList()
+                .map(departments -> {
+                    log.info("Departments page after {} retrieved by {}", after, requester.getEmail());
+                    return KeysetPage.of("All departments fetched successfully", departments, pageSize,
+                            DepartmentResponse::getId, Function.identity());
+                });
+    }
+
+    public Mono<ResourceVersion> getAllDepartmentsVersion(AuthenticatedUser requester) {
+        return Mono.fromRunnable(() -> roleValidator.checkIfAdmin(requester))
+                .then(departmentRepository.findTableVersion())
+                .map(version -> ResourceVersion.of("departments", version.rowCount(), null, version.lastModified()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.innocodes.employee_management_service.utils;
+
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination on the primary key: {@code WHERE id > :after ORDER BY id LIMIT :limit}.
+ * Cost per page is constant regardless of how deep the caller has paged.
+ */
+public final class KeysetPage {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private KeysetPage() {
+    }
+
+    public static int limit(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    public static long after(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    // One extra row tells us whether another page exists without a COUNT query
+    public static Limit fetchLimit(int limit) {
+        return Limit.of(limit + 1);
+    }
+
+    /**
+     * Trims the look-ahead row and sets {@code next} to the last returned id when more rows exist.
+     */
+    public static <E, R> ApiResponse<List<R>> of(String message, List<E> rows, int limit,
+                                                 Function<E, Long> idOf, Function<E, R> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, limit) : rows;
+        List<R> data = page.stream().map(mapper).toList();
+
+        ApiResponse<List<R>> response = ApiResponse.success(message, data);
+        if (hasMore) {
+            response.setNext(idOf.apply(page.get(page.size() - 1)));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,75 @@
+package com.innocodes.employee_management_service.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+/**
+ * Validators for a conditional GET: a strong ETag and a Last-Modified time, derived from the
+ * resource's timestamps rather than from its serialized body. Services compute one with a
+ * lookup that is much cheaper than the read itself, so an unchanged resource costs a 304
+ * with no {@link com.innocodes.employee_management_service.dto.response.ApiResponse} built
+ * and nothing serialized.
+ *
+ * @param etag         strong entity tag, unquoted
+ * @param lastModified epoch millis, or -1 when the resource has no timestamp
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    // Bump whenever the JSON shape of these responses changes, so clients drop copies in the old shape
+    private static final String FORMAT = "v1";
+
+    // Stored, but revalidated on every use; bodies depend on the caller's token
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * @param resource  kind of resource, keeps ETags of different endpoints apart
+     * @param key       id of the resource, or anything else that changes with the set it covers
+     * @param createdAt creation time, used until the first update
+     * @param updatedAt last update, may be {@code null}
+     */
+    public static ResourceVersion of(String resource, Object key, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        LocalDateTime modified = updatedAt != null ? updatedAt : createdAt;
+        if (modified == null) {
+            return new ResourceVersion(FORMAT + "-" + resource + "-" + key, -1);
+        }
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), modified);
+        return new ResourceVersion(FORMAT + "-" + resource + "-" + key + "-" + Long.toString(micros, 36),
+                modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * Answers 304 when the request's If-None-Match (or, without one, If-Modified-Since) matches
+     * this version; only otherwise is {@code body} called. Both cases carry ETag and Last-Modified.
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, Supplier<T> body) {
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+    }
+
+    /**
+     * Same as {@link #respond(WebRequest, Supplier)}, for the reactive read server: ETags from
+     * either server validate on the other.
+     */
+    public <T> Mono<ServerResponse> respond(ServerRequest request, Supplier<Mono<T>> body) {
+        boolean notModified = lastModified < 0
+                ? request.exchange().checkNotModified(etag)
+                : request.exchange().checkNotModified(etag, Instant.ofEpochMilli(lastModified));
+        if (notModified) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return body.get().flatMap(value -> ServerResponse.ok().cacheControl(REVALIDATE).bodyValue(value));
+    }
+}
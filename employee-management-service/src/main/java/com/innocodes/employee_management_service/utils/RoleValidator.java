@@ -1,33 +1,32 @@
 package com.innocodes.employee_management_service.utils;
 
 import com.innocodes.employee_management_service.exceptions.CustomException;
-import com.innocodes.employee_management_service.security.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class RoleValidator {
 
-    private final JwtUtil jwtUtil;
-
-    public void checkIfAdmin(String token) {
-        String role = jwtUtil.extractRole(token);
-        if (!"ADMIN".equalsIgnoreCase(role)) {
+    public void checkIfAdmin(AuthenticatedUser user) {
+        if (!user.hasRole("ADMIN")) {
             throw new CustomException("Access denied: Only Admins can perform this action");
         }
     }
 
-    public void checkIfManager(String token) {
-        String role = jwtUtil.extractRole(token);
-        if (!"MANAGER".equalsIgnoreCase(role)) {
+    public void checkIfManager(AuthenticatedUser user) {
+        if (!user.hasRole("MANAGER")) {
             throw new CustomException("Access denied: Only Managers can perform this action");
         }
     }
 
-    public void checkIfEmployee(String token) {
-        String role = jwtUtil.extractRole(token);
-        if (!"EMPLOYEE".equalsIgnoreCase(role)) {
+    public void checkIfAdminOrManager(AuthenticatedUser user) {
+        if (!user.hasRole("ADMIN") && !user.hasRole("MANAGER")) {
+            throw new CustomException("Access denied: Only Admins and Managers can perform this action");
+        }
+    }
+
+    public void checkIfEmployee(AuthenticatedUser user) {
+        if (!user.hasRole("EMPLOYEE")) {
             throw new CustomException("Access denied: Only Employees can perform this action");
         }
     }
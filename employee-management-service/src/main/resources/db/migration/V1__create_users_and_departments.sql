@@ -0,0 +1,25 @@
+-- users is shared with auth-service (same employee_db); its V1 carries the identical definition.
+-- IF NOT EXISTS: whichever service migrates first creates the table, and databases
+-- previously built by ddl-auto keep their existing tables.
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    role          VARCHAR(255) NOT NULL,
+    department_id BIGINT,
+    status        VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('ADMIN', 'EMPLOYEE', 'MANAGER'))
+);
+
+CREATE TABLE IF NOT EXISTS departments (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(255),
+    description   VARCHAR(255),
+    manager_email VARCHAR(255),
+    created_at    TIMESTAMP(6)
+);
@@ -0,0 +1,5 @@
+-- findByDepartmentId and the department keyset page: equality on department_id, then range + order on id
+CREATE INDEX IF NOT EXISTS idx_users_department_id ON users (department_id, id);
+
+-- findByManagerEmail
+CREATE INDEX IF NOT EXISTS idx_departments_manager_email ON departments (manager_email);
@@ -0,0 +1,24 @@
+-- Both services draw user ids from users_id_seq through Hibernate's pooled optimizer
+-- (allocationSize = 50): each nextval reserves the 50 ids ending at the returned value.
+-- Either service may run this first; the second run finds nothing left to change.
+DO $$
+DECLARE
+    max_id BIGINT;
+BEGIN
+    -- Identity columns hide their sequence from schema validation: swap in a plain one
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'users' AND column_name = 'id' AND is_identity = 'YES') THEN
+        ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+        CREATE SEQUENCE users_id_seq OWNED BY users.id;
+        SELECT MAX(id) INTO max_id FROM users;
+        IF max_id IS NOT NULL THEN
+            PERFORM setval('users_id_seq', max_id);
+        END IF;
+        ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_id_seq');
+    END IF;
+
+    -- From the current position, the next value ends a fresh block of 50 unused ids
+    IF (SELECT increment_by FROM pg_sequences WHERE sequencename = 'users_id_seq') <> 50 THEN
+        ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+    END IF;
+END $$;
@@ -0,0 +1,24 @@
+-- Department tree. parent_id is the adjacency list the service edits; department_closure holds one
+-- row per (ancestor, descendant) pair, each department paired with itself at depth 0, so "every
+-- department under X" and "every employee under X" are one index range scan at any depth.
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS parent_id BIGINT
+    CONSTRAINT fk_departments_parent REFERENCES departments (id);
+
+CREATE INDEX IF NOT EXISTS idx_departments_parent_id ON departments (parent_id);
+
+CREATE TABLE IF NOT EXISTS department_closure (
+    ancestor_id   BIGINT  NOT NULL,
+    descendant_id BIGINT  NOT NULL,
+    depth         INTEGER NOT NULL,
+    CONSTRAINT pk_department_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_department_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES departments (id) ON DELETE CASCADE,
+    CONSTRAINT fk_department_closure_descendant FOREIGN KEY (descendant_id) REFERENCES departments (id) ON DELETE CASCADE
+);
+
+-- Ancestors of a department: cycle checks and subtree moves
+CREATE INDEX IF NOT EXISTS idx_department_closure_descendant ON department_closure (descendant_id, ancestor_id);
+
+-- Every existing department starts out as a root
+INSERT INTO department_closure (ancestor_id, descendant_id, depth)
+SELECT id, id, 0 FROM departments
+ON CONFLICT DO NOTHING;
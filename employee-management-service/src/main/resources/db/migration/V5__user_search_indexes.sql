@@ -0,0 +1,12 @@
+-- Employee search / type-ahead: word-prefix matches on first name, last name and email.
+-- Each query branch is an index range scan ordered by the same key and stopped after LIMIT rows,
+-- so the cost is set by the page size, not by how many employees match. COLLATE "C" makes the
+-- LIKE 'prefix%' range usable whatever the database collation is.
+CREATE INDEX IF NOT EXISTS idx_users_search_first_last
+    ON users ((lower(first_name) COLLATE "C"), (lower(last_name) COLLATE "C"), id);
+
+CREATE INDEX IF NOT EXISTS idx_users_search_last_first
+    ON users ((lower(last_name) COLLATE "C"), (lower(first_name) COLLATE "C"), id);
+
+CREATE INDEX IF NOT EXISTS idx_users_search_email
+    ON users ((lower(email) COLLATE "C"), id);
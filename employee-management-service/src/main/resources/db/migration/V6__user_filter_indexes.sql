@@ -0,0 +1,12 @@
+-- GET /employees/filter: every filter shape the endpoint accepts on a large table starts from one
+-- of these (or from idx_users_department_id for department sets); EmployeeFilterServiceImpl
+-- rejects the shapes that would not.
+
+-- status, optionally narrowed by role, then a createdAt range and/or createdAt order
+CREATE INDEX IF NOT EXISTS idx_users_status_role_created_at ON users (status, role, created_at, id);
+
+-- createdAt range or order on its own
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at, id);
+
+-- updatedAt range: most users were never updated, so the index leaves their NULLs out
+CREATE INDEX IF NOT EXISTS idx_users_updated_at ON users (updated_at, id) WHERE updated_at IS NOT NULL;
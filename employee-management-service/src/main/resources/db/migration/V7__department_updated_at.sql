@@ -0,0 +1,3 @@
+-- Conditional GETs: a department's ETag and Last-Modified come from its last change, as for users.
+-- Existing rows keep NULL and fall back to created_at.
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
@@ -0,0 +1,4 @@
+-- GET /employees/filter by status in id order (the default sort): equality on status, then range +
+-- order on id, so a page stops after LIMIT rows however rare the status is. The V6 index on
+-- (status, role, created_at, id) only serves this once role and createdAt order pin the rest.
+CREATE INDEX IF NOT EXISTS idx_users_status_id ON users (status, id);
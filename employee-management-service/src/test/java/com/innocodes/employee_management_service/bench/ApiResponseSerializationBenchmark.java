@@ -0,0 +1,137 @@
+package com.innocodes.employee_management_service.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.innocodes.employee_management_service.config.JacksonConfig;
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.enums.Role;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ObjectMapper the services had before config/JacksonConfig against the tuned one,
+ * writing list responses to a byte stream the way the HTTP message converter does.
+ * Run from employee-management-service/:
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main ApiResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+    private ApiResponse<List<UserResponse>> users;
+    private ApiResponse<List<DepartmentResponse>> departments;
+    private final CountingSink sink = new CountingSink();
+
+    @Setup
+    public void setUp() {
+        // What Spring Boot builds by default: ISO strings for dates, no extra modules
+        defaultMapper = builder().build();
+
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder tuned = builder().modulesToInstall(config.blackbirdModule());
+        config.isoLocalDateTimeSerializer().customize(tuned);
+        tunedMapper = tuned.build();
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        List<UserResponse> userList = new ArrayList<>(size);
+        List<DepartmentResponse> departmentList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = base.plusSeconds(i * 37L).plusNanos(i * 1_000L);
+            userList.add(UserResponse.builder()
+                    .id((long) i + 1)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("employee" + i + "@company.com")
+                    .role(Role.values()[i % Role.values().length])
+                    .departmentId((long) i % 50)
+                    .status(i % 10 == 0 ? "INACTIVE" : "ACTIVE")
+                    .createdAt(createdAt)
+                    .updatedAt(i % 3 == 0 ? createdAt.plusDays(1) : null)
+                    .build());
+            departmentList.add(DepartmentResponse.builder()
+                    .id((long) i + 1)
+                    .name("Department " + i)
+                    .description("Handles area " + i)
+                    .managerEmail("manager" + i + "@company.com")
+                    .createdAt(createdAt)
+                    .parentId(i == 0 ? null : (long) i / 2)
+                    .build());
+        }
+        users = ApiResponse.success("All users fetched successfully", userList);
+        departments = ApiResponse.success("All departments fetched successfully", departmentList);
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public long usersDefault() throws IOException {
+        return write(defaultMapper, users);
+    }
+
+    @Benchmark
+    public long usersTuned() throws IOException {
+        return write(tunedMapper, users);
+    }
+
+    @Benchmark
+    public long departmentsDefault() throws IOException {
+        return write(defaultMapper, departments);
+    }
+
+    @Benchmark
+    public long departmentsTuned() throws IOException {
+        return write(tunedMapper, departments);
+    }
+
+    // Bytes written, returned so the JIT cannot drop the work
+    private long write(ObjectMapper mapper, Object value) throws IOException {
+        sink.count = 0;
+        mapper.writeValue(sink, value);
+        return sink.count;
+    }
+
+    // Discards the bytes like a socket would take them; writeValue closes its target, so close is a no-op
+    private static final class CountingSink extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApiResponseSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
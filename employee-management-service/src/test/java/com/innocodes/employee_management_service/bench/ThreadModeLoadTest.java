@@ -0,0 +1,282 @@
+package com.innocodes.employee_management_service.bench;
+
+import com.innocodes.jwt_core.JwtMinter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load test comparing a service in platform-thread mode with the same service
+ * started with spring.threads.virtual.enabled=true (Java 21 build, -Pjava21). Each client sends
+ * its next GET as soon as the previous one returns, cycling through --paths; the report gives
+ * throughput and p50/p99/max latency per path and mode after a warm-up.
+ * <p>
+ * With --launch the driver starts the jar once per mode in --modes (default platform,virtual) on
+ * --port, waits until it answers, runs the same load and stops it again, so both runs share one
+ * workload and one command. Virtual mode is launched with --java21 (default --java) and is
+ * skipped with a message when that runtime is older than 21: Spring Boot would silently fall
+ * back to platform threads and report the same numbers twice. Without --launch it measures the
+ * service already running at --url once, labelled with --modes.
+ * <p>
+ * --stall-jdbc-url stands in for a slow Postgres moment: every --stall-every it holds an ACCESS
+ * EXCLUSIVE lock on users for --stall, so every query on that table waits. In platform mode the
+ * blocked queries hold all Tomcat threads and requests that need no query (cached /me, 304s)
+ * queue behind them; in virtual-thread mode only the requests that wait on the table are slow.
+ * <p>
+ * Run from employee-management-service/ (build the jar with -Pjava21 for the virtual run):
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.innocodes.employee_management_service.bench.ThreadModeLoadTest \
+ *     --launch=target/employee-management-service-0.0.1-SNAPSHOT.jar --java21=/opt/jdk-21/bin/java \
+ *     --jvm-args="-Dspring.cloud.bootstrap.enabled=false -Deureka.client.enabled=false" \
+ *     --clients=2000 --duration=60s --paths=/api/v1/employees/me,/api/v1/employees/1 \
+ *     --stall-jdbc-url=jdbc:postgresql://localhost:5432/employee_db
+ */
+public class ThreadModeLoadTest {
+
+    private static final String DEFAULT_SECRET = "3b8b6f6a2c4a8f0b90e2c7c9f67f8e8a1d1a2b3c4d5e6f708091a1b2c3d4e5f6";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        List<String> modes = List.of(options.getOrDefault("modes",
+                options.containsKey("launch") ? "platform,virtual" : "platform").split(","));
+        String url = options.containsKey("launch")
+                ? "http://localhost:" + options.getOrDefault("port", "8082")
+                : options.getOrDefault("url", "http://localhost:8082");
+        List<String> paths = List.of(options.getOrDefault("paths", "/api/v1/employees/me,/api/v1/employees/1").split(","));
+
+        Map<String, List<PathStats>> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            if (!options.containsKey("launch")) {
+                results.put(mode, run(options, url, paths));
+                continue;
+            }
+            String java = "virtual".equals(mode)
+                    ? options.getOrDefault("java21", options.getOrDefault("java", "java"))
+                    : options.getOrDefault("java", "java");
+            int version = featureVersion(java);
+            if ("virtual".equals(mode) && version < 21) {
+                System.out.printf("virtual: skipped, %s is Java %d; pass --java21=<Java 21 java binary>%n", java, version);
+                continue;
+            }
+            Process service = launch(options, java, mode);
+            try {
+                awaitUp(url + paths.get(0), service);
+                results.put(mode, run(options, url, paths));
+            } finally {
+                service.destroy();
+                if (!service.waitFor(30, TimeUnit.SECONDS)) {
+                    service.destroyForcibly();
+                }
+            }
+        }
+
+        System.out.printf("%s clients, %ss measured after %ss warm-up, %s%n", options.getOrDefault("clients", "2000"),
+                seconds(options.getOrDefault("duration", "60s")).toSeconds(),
+                seconds(options.getOrDefault("warmup", "10s")).toSeconds(), url);
+        System.out.printf("%-9s %-40s %10s %8s %10s %9s %9s %9s%n", "mode", "path", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        Duration duration = seconds(options.getOrDefault("duration", "60s"));
+        results.forEach((mode, stats) -> stats.forEach(s -> s.print(mode, duration)));
+    }
+
+    // One closed-loop measurement against whatever is listening on url
+    private static List<PathStats> run(Map<String, String> options, String url, List<String> paths) throws InterruptedException {
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        Duration warmup = seconds(options.getOrDefault("warmup", "10s"));
+        Duration duration = seconds(options.getOrDefault("duration", "60s"));
+
+        String token = new JwtMinter(options.getOrDefault("secret", DEFAULT_SECRET).getBytes(StandardCharsets.UTF_8),
+                86_400_000L).mint(Map.of("email", options.getOrDefault("email", "admin@company.com"),
+                "role", options.getOrDefault("role", "ADMIN")));
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        List<HttpRequest> requests = paths.stream()
+                .map(path -> HttpRequest.newBuilder(URI.create(url + path))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build())
+                .toList();
+
+        List<PathStats> stats = paths.stream().map(PathStats::new).toList();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        Thread staller = startStaller(options, end);
+        // Platform threads on the client side, so the driver itself runs on Java 17
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            int offset = c;
+            pool.execute(() -> {
+                for (int i = offset; System.nanoTime() < end; i++) {
+                    int p = i % requests.size();
+                    long sent = System.nanoTime();
+                    boolean ok;
+                    try {
+                        int status = http.send(requests.get(p), HttpResponse.BodyHandlers.discarding()).statusCode();
+                        ok = status < 400;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    long done = System.nanoTime();
+                    if (sent >= measureFrom && done <= end) {
+                        stats.get(p).record(done - sent, ok);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(warmup.plus(duration).toSeconds() + 60, TimeUnit.SECONDS);
+        if (staller != null) {
+            staller.interrupt();
+            staller.join();
+        }
+        return stats;
+    }
+
+    // Starts the jar with the mode's thread setting; its output goes to target/thread-mode-<mode>.log
+    private static Process launch(Map<String, String> options, String java, String mode) throws Exception {
+        List<String> command = new ArrayList<>(List.of(java));
+        command.addAll(words(options.get("jvm-args")));
+        command.addAll(List.of("-jar", options.get("launch"),
+                "--server.port=" + options.getOrDefault("port", "8082"),
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode)));
+        command.addAll(words(options.get("service-args")));
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/thread-mode-" + mode + ".log"))
+                .start();
+    }
+
+    // Any HTTP answer, even a 401, means Tomcat is accepting requests
+    private static void awaitUp(String url, Process service) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(3);
+        while (System.nanoTime() < deadline) {
+            if (!service.isAlive()) {
+                throw new IllegalStateException("Service exited with " + service.exitValue() + ", see target/thread-mode-*.log");
+            }
+            try {
+                http.send(HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(1000);
+            }
+        }
+        throw new IllegalStateException("Service did not start within 3 minutes");
+    }
+
+    // java -XshowSettings:properties prints java.specification.version on stderr before -version
+    private static int featureVersion(String java) throws Exception {
+        Process process = new ProcessBuilder(java, "-XshowSettings:properties", "-version")
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        process.waitFor();
+        Matcher matcher = Pattern.compile("java\\.specification\\.version = (\\d+)").matcher(output);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Cannot tell the Java version of " + java);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static List<String> words(String value) {
+        return value == null || value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+    }
+
+    // Holds an ACCESS EXCLUSIVE lock on users for --stall every --stall-every, until the run ends
+    private static Thread startStaller(Map<String, String> options, long end) {
+        String jdbcUrl = options.get("stall-jdbc-url");
+        if (jdbcUrl == null) {
+            return null;
+        }
+        Duration every = seconds(options.getOrDefault("stall-every", "20s"));
+        Duration stall = seconds(options.getOrDefault("stall", "5s"));
+        Thread thread = new Thread(() -> {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl,
+                    options.getOrDefault("db-user", "postgres"), options.getOrDefault("db-password", "passpass"))) {
+                connection.setAutoCommit(false);
+                while (System.nanoTime() + every.toNanos() < end) {
+                    Thread.sleep(every.toMillis());
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("LOCK TABLE users IN ACCESS EXCLUSIVE MODE");
+                        Thread.sleep(stall.toMillis());
+                    } finally {
+                        connection.rollback();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                System.err.println("Stall thread stopped: " + e.getMessage());
+            }
+        }, "db-staller");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static final class PathStats {
+        private final String path;
+        private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        private final LongAdder errors = new LongAdder();
+
+        PathStats(String path) {
+            this.path = path;
+        }
+
+        void record(long nanos, boolean ok) {
+            latencies.recordValue(Math.min(nanos, latencies.getHighestTrackableValue()));
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        void print(String mode, Duration duration) {
+            long count = latencies.getTotalCount();
+            System.out.printf("%-9s %-40s %10d %8d %10.0f %9.1f %9.1f %9.1f%n", mode, path, count, errors.sum(),
+                    count / (double) duration.toSeconds(), millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(99)), millis(latencies.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private static Duration seconds(String value) {
+        return Duration.ofSeconds(Long.parseLong(value.endsWith("s") ? value.substring(0, value.length() - 1) : value));
+    }
+}
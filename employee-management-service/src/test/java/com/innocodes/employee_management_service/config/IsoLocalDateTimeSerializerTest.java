@@ -0,0 +1,76 @@
+package com.innocodes.employee_management_service.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper standard = builder().build();
+    private final ObjectMapper fast = fastMapper();
+
+    // ✅ Same bytes as the formatter-based serializer, fraction trimming included
+    @Test
+    void serialize_ShouldMatchStandardOutput() throws Exception {
+        List<LocalDateTime> samples = new ArrayList<>(List.of(
+                LocalDateTime.of(2025, 1, 31, 9, 5),
+                LocalDateTime.of(2025, 12, 1, 23, 59, 59, 100_000_000),
+                LocalDateTime.of(1999, 6, 7, 0, 0, 1, 123_456_000),
+                LocalDateTime.of(2024, 2, 29, 12, 30, 0, 1),
+                LocalDateTime.of(10_000, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 1, 1, 0, 0)));
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            samples.add(LocalDateTime.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    random.nextBoolean() ? 0 : random.nextInt(1_000_000_000)));
+        }
+
+        for (LocalDateTime sample : samples) {
+            assertEquals(standard.writeValueAsString(sample), fast.writeValueAsString(sample), sample::toString);
+        }
+        // As bean properties, which is where each serializer is contextualised
+        assertEquals(standard.writeValueAsString(new Dates(samples)), fast.writeValueAsString(new Dates(samples)));
+    }
+
+    // ✅ @JsonFormat patterns still win over the fast path
+    @Test
+    void serialize_ShouldHonourJsonFormat() throws Exception {
+        Stamped stamped = new Stamped(LocalDateTime.of(2025, 3, 4, 5, 6, 7));
+
+        assertEquals("{\"at\":\"04/03/2025\"}", fast.writeValueAsString(stamped));
+    }
+
+    // ✅ Properties keep the fast serializer after contextualisation
+    @Test
+    void createContextual_ShouldKeepFastSerializer() throws Exception {
+        assertInstanceOf(IsoLocalDateTimeSerializer.class,
+                new IsoLocalDateTimeSerializer().createContextual(fast.getSerializerProviderInstance(), null));
+    }
+
+    record Dates(List<LocalDateTime> values) {
+    }
+
+    record Stamped(@JsonFormat(pattern = "dd/MM/yyyy") LocalDateTime at) {
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static ObjectMapper fastMapper() {
+        Jackson2ObjectMapperBuilder builder = builder();
+        new JacksonConfig().isoLocalDateTimeSerializer().customize(builder);
+        return builder.build();
+    }
+}
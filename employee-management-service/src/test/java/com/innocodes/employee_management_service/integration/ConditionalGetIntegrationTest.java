@@ -0,0 +1,203 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.innocodes.employee_management_service.controller.DepartmentController;
+import com.innocodes.employee_management_service.controller.EmployeeController;
+import com.innocodes.employee_management_service.dto.request.DepartmentRequest;
+import com.innocodes.employee_management_service.dto.request.EmployeeRequest;
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.DepartmentService;
+import com.innocodes.employee_management_service.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml",
+                // production cache settings, so a query-cached ETag would show up as stale
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+                "spring.jpa.properties.hibernate.cache.region.factory_class=jcache"
+        }
+)
+@ActiveProfiles("integration")
+@Transactional
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private DepartmentController departmentController;
+
+    @Autowired
+    private EmployeeController employeeController;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuthenticatedUser admin;
+    private Long departmentId;
+
+    @BeforeEach
+    void setup() {
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        ApiResponse<?> created = departmentService.createDepartment(
+                DepartmentRequest.builder().name("Conditional").description("Polled").build(), admin);
+        departmentId = ((DepartmentResponse) created.getData()).getId();
+    }
+
+    @Test
+    void getDepartment_ShouldAnswer304_UntilTheDepartmentChanges() {
+        ServletWebRequest first = get(null);
+        ResponseEntity<ApiResponse> fresh = departmentController.getDepartment(admin, departmentId, first);
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertEquals(HttpStatus.OK, fresh.getStatusCode());
+        assertNotNull(fresh.getBody());
+        assertTrue(etag.startsWith("\"") && !etag.startsWith("W/"), "strong, quoted ETag");
+        assertNotNull(first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED));
+
+        ResponseEntity<ApiResponse> unchanged = departmentController.getDepartment(admin, departmentId, get(etag));
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertNull(unchanged.getBody());
+
+        departmentService.updateDepartment(departmentId,
+                DepartmentRequest.builder().name("Conditional").description("Renamed").build(), admin);
+
+        ServletWebRequest after = get(etag);
+        ResponseEntity<ApiResponse> changed = departmentController.getDepartment(admin, departmentId, after);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(etag, after.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getAllDepartments_ShouldChangeETag_WhenADepartmentIsAddedOrRemoved() {
+        String before = departmentsETag();
+        assertEquals(HttpStatus.NOT_MODIFIED,
+                departmentController.getAllDepartments(admin, null, null, get(before)).getStatusCode());
+
+        ApiResponse<?> created = departmentService.createDepartment(
+                DepartmentRequest.builder().name("Conditional 2").build(), admin);
+        String added = departmentsETag();
+        assertNotEquals(before, added);
+
+        departmentService.deleteDepartment(
+                ((DepartmentResponse) created.getData()).getId(), admin);
+        assertNotEquals(added, departmentsETag());
+    }
+
+    // ✅ Another replica's write bypasses this instance's caches; the ETag must change all the same
+    // (committed, since Hibernate never serves cached queries to a transaction that wrote the table)
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getAllDepartments_ShouldChangeETag_WhenAnotherInstanceWrites() {
+        try {
+            String before = departmentsETag();
+            assertEquals(before, departmentsETag());
+            // the page holding the department, read once so a query-cacheable page would be cached now
+            assertEquals("Polled", departmentPage().get(0).getDescription());
+
+            jdbcTemplate.update("UPDATE departments SET description = 'Elsewhere', updated_at = ? WHERE id = ?",
+                    LocalDateTime.now().plusMinutes(1), departmentId);
+
+            assertNotEquals(before, departmentsETag());
+            // and the body served under the new ETag carries the write too
+            assertEquals("Elsewhere", departmentPage().get(0).getDescription());
+        } finally {
+            departmentService.deleteDepartment(departmentId, admin);
+        }
+    }
+
+    // ✅ Same for one department: neither the ETag nor the body may come from this instance's L2 copy
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getDepartment_ShouldServeTheOtherInstancesWrite_WithAMatchingETag() {
+        try {
+            ServletWebRequest first = get(null);
+            departmentController.getDepartment(admin, departmentId, first);
+            String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+            departmentController.getDepartment(admin, departmentId, get(null));
+
+            jdbcTemplate.update("UPDATE departments SET description = 'Elsewhere', updated_at = ? WHERE id = ?",
+                    LocalDateTime.now().plusMinutes(1), departmentId);
+
+            ServletWebRequest after = get(etag);
+            ResponseEntity<ApiResponse> changed = departmentController.getDepartment(admin, departmentId, after);
+            assertEquals(HttpStatus.OK, changed.getStatusCode());
+            assertNotEquals(etag, after.getResponse().getHeader(HttpHeaders.ETAG));
+            assertEquals("Elsewhere", ((DepartmentResponse) changed.getBody().getData()).getDescription());
+        } finally {
+            departmentService.deleteDepartment(departmentId, admin);
+        }
+    }
+
+    @Test
+    void getEmployee_ShouldAnswer304_UntilTheEmployeeIsUpdated() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .firstName("Etag").lastName("Poller").email("etag.poller@company.com").password("secret")
+                .role(Role.EMPLOYEE).status("ACTIVE").createdAt(LocalDateTime.now()).build());
+
+        ServletWebRequest first = get(null);
+        employeeController.getEmployees(admin, user.getId(), first);
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertEquals(HttpStatus.NOT_MODIFIED,
+                employeeController.getEmployees(admin, user.getId(), get(etag)).getStatusCode());
+
+        employeeService.updateUser(user.getId(), EmployeeRequest.builder()
+                .firstName("Etag").lastName("Poller").status("INACTIVE").build(), admin);
+        userRepository.flush();
+
+        assertEquals(HttpStatus.OK,
+                employeeController.getEmployees(admin, user.getId(), get(etag)).getStatusCode());
+    }
+
+    private String departmentsETag() {
+        ServletWebRequest request = get(null);
+        departmentController.getAllDepartments(admin, null, null, request);
+        return request.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DepartmentResponse> departmentPage() {
+        ResponseEntity<ApiResponse> page = departmentController.getAllDepartments(admin, departmentId - 1, 1, get(null));
+        return (List<DepartmentResponse>) page.getBody().getData();
+    }
+
+    private static ServletWebRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/test");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,139 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.innocodes.employee_management_service.dto.request.DepartmentMoveRequest;
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentHeadcountResponse;
+import com.innocodes.employee_management_service.dto.response.DepartmentMoveResponse;
+import com.innocodes.employee_management_service.entity.Department;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.DepartmentRepository;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.DepartmentService;
+import com.innocodes.employee_management_service.service.impl.DepartmentHeadcount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml"
+        }
+)
+@ActiveProfiles("integration")
+@Transactional
+class DepartmentBulkOperationsIntegrationTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentHeadcount headcount;
+
+    private Department finance;
+    private Department sales;
+    private User employee;
+    private User manager;
+    private AuthenticatedUser admin;
+
+    @BeforeEach
+    void setup() {
+        finance = departmentRepository.save(Department.builder().name("Finance").build());
+        sales = departmentRepository.save(Department.builder().name("Sales").build());
+        employee = userRepository.save(member("bulk.employee@company.com", Role.EMPLOYEE));
+        manager = userRepository.save(member("bulk.manager@company.com", Role.MANAGER));
+
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+    }
+
+    @Test
+    void moveMembers_ShouldMoveEveryone_WhenNoFilterGiven() {
+        ApiResponse<DepartmentMoveResponse> response = departmentService.moveMembers(finance.getId(),
+                DepartmentMoveRequest.builder().targetDepartmentId(sales.getId()).build(), admin);
+
+        assertEquals(2, response.getData().getMovedEmployees());
+        assertEquals(sales.getId(), userRepository.findById(employee.getId()).orElseThrow().getDepartmentId());
+        assertEquals(sales.getId(), userRepository.findById(manager.getId()).orElseThrow().getDepartmentId());
+    }
+
+    @Test
+    void headcount_ShouldReflectMove_AfterReconciliation() {
+        departmentService.moveMembers(finance.getId(),
+                DepartmentMoveRequest.builder().targetDepartmentId(sales.getId()).role(Role.MANAGER).build(), admin);
+        headcount.reconcile();
+
+        DepartmentHeadcountResponse sales = departmentService.getHeadcount(this.sales.getId(), admin).getData();
+        assertEquals(1, sales.getTotal());
+        assertEquals(1L, sales.getByRole().get(Role.MANAGER));
+        assertEquals(1L, sales.getByStatus().get("ACTIVE"));
+        assertEquals(1, departmentService.getHeadcount(finance.getId(), admin).getData().getTotal());
+    }
+
+    @Test
+    void moveMembers_ShouldOnlyMoveMatchingMembers() {
+        ApiResponse<DepartmentMoveResponse> byRole = departmentService.moveMembers(finance.getId(),
+                DepartmentMoveRequest.builder().targetDepartmentId(sales.getId()).role(Role.MANAGER).build(), admin);
+        ApiResponse<DepartmentMoveResponse> byId = departmentService.moveMembers(finance.getId(),
+                DepartmentMoveRequest.builder().targetDepartmentId(sales.getId())
+                        .employeeIds(List.of(employee.getId(), manager.getId())).build(), admin);
+
+        assertEquals(1, byRole.getData().getMovedEmployees());
+        assertEquals(1, byId.getData().getMovedEmployees());
+        assertEquals(List.of(), userRepository.findByDepartmentId(finance.getId()));
+    }
+
+    @Test
+    void moveMembers_ShouldThrow_WhenTargetMissing() {
+        assertThrows(CustomException.class, () -> departmentService.moveMembers(finance.getId(),
+                DepartmentMoveRequest.builder().targetDepartmentId(-1L).build(), admin));
+    }
+
+    @Test
+    void dissolveDepartment_ShouldReassignMembers_ThenDelete() {
+        ApiResponse<DepartmentMoveResponse> response =
+                departmentService.dissolveDepartment(finance.getId(), sales.getId(), admin);
+
+        assertEquals(2, response.getData().getMovedEmployees());
+        assertTrue(response.getData().getDepartmentDeleted());
+        assertFalse(departmentRepository.existsById(finance.getId()));
+        assertEquals(2, userRepository.findByDepartmentId(sales.getId()).size());
+    }
+
+    @Test
+    void deleteDepartment_ShouldLeaveNoMemberPointingAtIt() {
+        departmentService.deleteDepartment(finance.getId(), admin);
+
+        assertFalse(departmentRepository.existsById(finance.getId()));
+        assertNull(userRepository.findById(employee.getId()).orElseThrow().getDepartmentId());
+    }
+
+    private User member(String email, Role role) {
+        return User.builder()
+                .firstName("Bulk")
+                .lastName("Member")
+                .email(email)
+                .password("password123")
+                .role(role)
+                .status("ACTIVE")
+                .departmentId(finance.getId())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
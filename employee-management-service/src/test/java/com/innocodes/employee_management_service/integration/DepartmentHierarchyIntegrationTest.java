@@ -0,0 +1,125 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.innocodes.employee_management_service.dto.request.DepartmentRequest;
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.entity.DepartmentClosure;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.DepartmentClosureRepository;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.DepartmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml"
+        }
+)
+@ActiveProfiles("integration")
+@Transactional
+class DepartmentHierarchyIntegrationTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private DepartmentClosureRepository closureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private AuthenticatedUser admin;
+    // operations > engineering > platform
+    private Long operations;
+    private Long engineering;
+    private Long platform;
+
+    @BeforeEach
+    void setup() {
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        operations = create("Operations", null);
+        engineering = create("Engineering", operations);
+        platform = create("Platform", engineering);
+    }
+
+    @Test
+    void getDescendants_ShouldReturnWholeSubtree_NearestFirst() {
+        List<DepartmentResponse> descendants = departmentService.getDescendants(operations, admin).getData();
+
+        assertEquals(List.of(engineering, platform), descendants.stream().map(DepartmentResponse::getId).toList());
+        assertEquals(engineering, descendants.get(1).getParentId());
+    }
+
+    @Test
+    void getSubtreeEmployees_ShouldIncludeEveryLevel() {
+        User top = userRepository.save(member("tree.top@company.com", operations));
+        User deep = userRepository.save(member("tree.deep@company.com", platform));
+
+        List<UserResponse> underOperations = departmentService.getSubtreeEmployees(operations, admin, null, null).getData();
+        List<UserResponse> underEngineering = departmentService.getSubtreeEmployees(engineering, admin, null, null).getData();
+
+        assertEquals(List.of(top.getId(), deep.getId()), underOperations.stream().map(UserResponse::getId).toList());
+        assertEquals(List.of(deep.getId()), underEngineering.stream().map(UserResponse::getId).toList());
+    }
+
+    @Test
+    void moveDepartment_ShouldCarryItsSubtree() {
+        departmentService.moveDepartment(engineering, null, admin);
+
+        assertEquals(List.of(), departmentService.getDescendants(operations, admin).getData());
+        assertEquals(List.of(platform), departmentService.getDescendants(engineering, admin).getData()
+                .stream().map(DepartmentResponse::getId).toList());
+
+        departmentService.moveDepartment(platform, operations, admin);
+        assertTrue(closureRepository.existsByAncestorIdAndDescendantId(operations, platform));
+        assertFalse(closureRepository.existsByAncestorIdAndDescendantId(engineering, platform));
+    }
+
+    @Test
+    void moveDepartment_ShouldRejectCycles() {
+        assertThrows(CustomException.class, () -> departmentService.moveDepartment(operations, platform, admin));
+        assertThrows(CustomException.class, () -> departmentService.moveDepartment(engineering, engineering, admin));
+    }
+
+    @Test
+    void deleteDepartment_ShouldHandChildrenToItsParent() {
+        departmentService.deleteDepartment(engineering, admin);
+
+        List<DepartmentResponse> descendants = departmentService.getDescendants(operations, admin).getData();
+        assertEquals(List.of(platform), descendants.stream().map(DepartmentResponse::getId).toList());
+        assertEquals(operations, descendants.get(0).getParentId());
+        assertEquals(1, closureRepository.findById(new DepartmentClosure.Key(operations, platform)).orElseThrow().getDepth());
+    }
+
+    private Long create(String name, Long parentId) {
+        DepartmentRequest request = DepartmentRequest.builder().name(name).parentId(parentId).build();
+        return ((DepartmentResponse) departmentService.createDepartment(request, admin).getData()).getId();
+    }
+
+    private User member(String email, Long departmentId) {
+        return User.builder()
+                .firstName("Tree")
+                .lastName("Member")
+                .email(email)
+                .password("password123")
+                .role(Role.EMPLOYEE)
+                .status("ACTIVE")
+                .departmentId(departmentId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innocodes.employee_management_service.dto.response.EmployeeImportReport;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.ExportFormat;
+import com.innocodes.employee_management_service.enums.ImportFormat;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeExportService;
+import com.innocodes.employee_management_service.service.EmployeeImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml",
+                "employee.export.fetch-size=100",
+                "employee.export.flush-rows=3"
+        }
+)
+@ActiveProfiles("integration")
+@Transactional
+class EmployeeExportIntegrationTest {
+
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Zero seconds and a fractional second: the two cases where LocalDateTime.toString() and ISO formatting differ
+    private static final LocalDateTime ON_THE_MINUTE = LocalDateTime.of(2025, 1, 31, 9, 5);
+    private static final LocalDateTime WITH_FRACTION = LocalDateTime.of(2025, 1, 31, 9, 5, 7, 250_000_000);
+
+    private AuthenticatedUser admin;
+    private List<User> users;
+
+    @BeforeEach
+    void setup() {
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        users = List.of(
+                user("Smith, \"Jr\"", "=HYPERLINK(\"http://evil\")", "export.quoted@company.com", ON_THE_MINUTE),
+                user("Line\nBreak", "\tTabbed", "export.multiline@company.com", LocalDateTime.now()),
+                user("@SUM(A1)", "\rReturn", "export.formula@company.com", WITH_FRACTION));
+        userRepository.saveAllAndFlush(users);
+    }
+
+    // ✅ CSV: RFC 4180 quoting, formula-like leading characters behind a ' prefix
+    @Test
+    void exportCsv_ShouldQuoteAndNeutraliseFields() throws IOException {
+        String csv = export(ExportFormat.CSV);
+
+        assertTrue(csv.startsWith("id,firstName,lastName,email,role,departmentId,status,createdAt,updatedAt\n"));
+        assertTrue(csv.endsWith("\n"));
+        assertTrue(csv.contains(users.get(0).getId() + ",\"Smith, \"\"Jr\"\"\",\"'=HYPERLINK(\"\"http://evil\"\")\","
+                + "export.quoted@company.com,EMPLOYEE,,ACTIVE,"));
+        assertTrue(csv.contains(",\"Line\nBreak\",\"'\tTabbed\",export.multiline@company.com,"));
+        assertTrue(csv.contains(",\"'@SUM(A1)\",\"'\rReturn\",export.formula@company.com,"));
+    }
+
+    // ✅ CSV: what the export writes, the import reads back field for field
+    @Test
+    void exportCsv_ShouldRoundTripThroughImport() throws IOException {
+        String csv = export(ExportFormat.CSV);
+        // Rows come out in id order, so the test users are the last three records
+        String header = csv.substring(0, csv.indexOf('\n') + 1);
+        String ours = csv.substring(csv.indexOf("\n" + users.get(0).getId() + ",") + 1);
+        userRepository.deleteAll(users);
+        userRepository.flush();
+
+        EmployeeImportReport report = employeeImportService.importUsers(admin, new MockMultipartFile(
+                "file", "employees.csv", "text/csv", (header + ours).getBytes(StandardCharsets.UTF_8)),
+                ImportFormat.CSV).getData();
+
+        // One record per user: embedded quotes, commas and line breaks neither split nor merge rows
+        assertEquals(3, report.getTotal());
+        assertEquals(3, report.getCreated());
+        for (User original : users) {
+            User imported = userRepository.findByEmail(original.getEmail()).orElseThrow();
+            assertEquals(original.getFirstName(), imported.getFirstName());
+            assertEquals(original.getLastName(), imported.getLastName());
+            assertEquals(original.getRole(), imported.getRole());
+            assertEquals(original.getStatus(), imported.getStatus());
+        }
+    }
+
+    // ✅ NDJSON: one complete JSON object per line, embedded line breaks escaped
+    @Test
+    void exportNdjson_ShouldWriteOneObjectPerLine() throws IOException {
+        String ndjson = export(ExportFormat.NDJSON);
+        assertTrue(ndjson.endsWith("\n"));
+
+        Map<String, JsonNode> byEmail = new HashMap<>();
+        for (String line : ndjson.substring(0, ndjson.length() - 1).split("\n", -1)) {
+            JsonNode node = objectMapper.readTree(line);
+            assertTrue(node.isObject(), line);
+            assertEquals(9, node.size(), line);
+            byEmail.put(node.get("email").asText(), node);
+        }
+
+        JsonNode multiline = byEmail.get("export.multiline@company.com");
+        assertEquals(users.get(1).getId(), multiline.get("id").asLong());
+        assertEquals("Line\nBreak", multiline.get("firstName").asText());
+        assertEquals("\tTabbed", multiline.get("lastName").asText());
+        assertTrue(multiline.get("departmentId").isNull());
+        assertTrue(multiline.get("updatedAt").isNull());
+        assertNotNull(LocalDateTime.parse(multiline.get("createdAt").asText()));
+        assertEquals("=HYPERLINK(\"http://evil\")", byEmail.get("export.quoted@company.com").get("lastName").asText());
+        assertFalse(byEmail.get("admin@company.com").has("password"));
+    }
+
+    // ✅ CSV and NDJSON write the same ISO-8601 timestamp text, seconds always present
+    @Test
+    void export_ShouldFormatTimestampsTheSame_InCsvAndNdjson() throws IOException {
+        String csv = export(ExportFormat.CSV);
+        assertTrue(csv.contains(",export.quoted@company.com,EMPLOYEE,,ACTIVE,2025-01-31T09:05:00,\n"));
+        assertTrue(csv.contains(",export.formula@company.com,EMPLOYEE,,ACTIVE,2025-01-31T09:05:07.25,\n"));
+
+        Map<String, String> createdAt = new HashMap<>();
+        String ndjson = export(ExportFormat.NDJSON);
+        for (String line : ndjson.substring(0, ndjson.length() - 1).split("\n", -1)) {
+            JsonNode node = objectMapper.readTree(line);
+            createdAt.put(node.get("email").asText(), node.get("createdAt").asText());
+        }
+        assertEquals("2025-01-31T09:05:00", createdAt.get("export.quoted@company.com"));
+        assertEquals("2025-01-31T09:05:07.25", createdAt.get("export.formula@company.com"));
+    }
+
+    // ❌ Non-admins are refused before anything is streamed
+    @Test
+    void export_ShouldRejectNonAdmins() {
+        AuthenticatedUser employee = new AuthenticatedUser("export.quoted@company.com", "EMPLOYEE",
+                new Date(System.currentTimeMillis() + 86400000));
+
+        CustomException ex = assertThrows(CustomException.class,
+                () -> employeeExportService.exportUsers(employee, ExportFormat.CSV));
+        assertEquals("Access denied: Only Admins can perform this action", ex.getMessage());
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        employeeExportService.exportUsers(admin, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static User user(String firstName, String lastName, String email, LocalDateTime createdAt) {
+        return User.builder().firstName(firstName).lastName(lastName).email(email).password("secret")
+                .role(Role.EMPLOYEE).status("ACTIVE").createdAt(createdAt).build();
+    }
+}
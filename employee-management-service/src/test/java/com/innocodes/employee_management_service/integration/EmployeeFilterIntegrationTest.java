@@ -0,0 +1,139 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.innocodes.employee_management_service.dto.request.EmployeeFilterRequest;
+import com.innocodes.employee_management_service.dto.response.ApiResponse;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeFilterService;
+import com.innocodes.employee_management_service.service.impl.EmployeeFilterServiceImpl;
+import com.innocodes.employee_management_service.utils.RoleValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml"
+        }
+)
+@ActiveProfiles("integration")
+@Transactional
+class EmployeeFilterIntegrationTest {
+
+    private static final LocalDateTime QUARTER_START = LocalDateTime.of(2031, 7, 1, 0, 0);
+
+    @Autowired
+    private EmployeeFilterService employeeFilterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleValidator roleValidator;
+
+    private AuthenticatedUser admin;
+    private User activeManager;
+    private User laterManager;
+
+    @BeforeEach
+    void setup() {
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        activeManager = userRepository.save(user("filter.m1@company.com", Role.MANAGER, "ACTIVE", 901L, QUARTER_START.plusDays(3)));
+        laterManager = userRepository.save(user("filter.m2@company.com", Role.MANAGER, "ACTIVE", 902L, QUARTER_START.plusDays(40)));
+        userRepository.save(user("filter.m3@company.com", Role.MANAGER, "INACTIVE", 901L, QUARTER_START.plusDays(5)));
+        userRepository.save(user("filter.e1@company.com", Role.EMPLOYEE, "ACTIVE", 901L, QUARTER_START.plusDays(6)));
+        userRepository.save(user("filter.m4@company.com", Role.MANAGER, "ACTIVE", 903L, QUARTER_START.plusDays(7)));
+        userRepository.save(user("filter.m5@company.com", Role.MANAGER, "ACTIVE", 901L, QUARTER_START.minusDays(1)));
+    }
+
+    // ✅ "All ACTIVE managers created this quarter in departments X, Y"
+    @Test
+    void filterUsers_ShouldCombineAllCriteria() {
+        List<UserResponse> users = employeeFilterService.filterUsers(admin, EmployeeFilterRequest.builder()
+                .status("ACTIVE").role(Role.MANAGER).departmentIds(List.of(901L, 902L))
+                .createdFrom(QUARTER_START).createdTo(QUARTER_START.plusMonths(3))
+                .build()).getData();
+
+        assertEquals(List.of(activeManager.getId(), laterManager.getId()), users.stream().map(UserResponse::getId).toList());
+    }
+
+    // ✅ Pages through (createdAt, id) in descending order with the id cursor
+    @Test
+    void filterUsers_ShouldPageByCreatedAtDescending() {
+        EmployeeFilterRequest filter = EmployeeFilterRequest.builder()
+                .departmentIds(List.of(901L, 902L, 903L)).sort("createdAt,desc").limit(4).build();
+
+        ApiResponse<List<UserResponse>> first = employeeFilterService.filterUsers(admin, filter);
+        filter.setAfter(first.getNext());
+        ApiResponse<List<UserResponse>> second = employeeFilterService.filterUsers(admin, filter);
+
+        assertEquals(laterManager.getId(), first.getData().get(0).getId());
+        assertEquals(4, first.getData().size());
+        assertEquals(List.of("filter.m1@company.com", "filter.m5@company.com"),
+                second.getData().stream().map(UserResponse::getEmail).toList());
+        assertNull(second.getNext());
+    }
+
+    @Test
+    void filterUsers_ShouldRejectBadSortAndEmptyRanges() {
+        assertThrows(CustomException.class, () -> employeeFilterService.filterUsers(admin,
+                EmployeeFilterRequest.builder().sort("email").build()));
+        assertThrows(CustomException.class, () -> employeeFilterService.filterUsers(admin,
+                EmployeeFilterRequest.builder().createdFrom(QUARTER_START).createdTo(QUARTER_START).build()));
+    }
+
+    // ✅ Role alone cannot drive an index: refused on a table over the guard size, served otherwise
+    @Test
+    void filterUsers_ShouldGuardRoleOnlyFilters() {
+        EmployeeFilterService strict = new EmployeeFilterServiceImpl(userRepository, roleValidator, -1);
+        EmployeeFilterService lenient = new EmployeeFilterServiceImpl(userRepository, roleValidator, Long.MAX_VALUE);
+        EmployeeFilterRequest roleOnly = EmployeeFilterRequest.builder().role(Role.MANAGER).build();
+
+        assertThrows(CustomException.class, () -> strict.filterUsers(admin, roleOnly));
+        assertDoesNotThrow(() -> strict.filterUsers(admin,
+                EmployeeFilterRequest.builder().role(Role.MANAGER).status("ACTIVE").build()));
+        assertDoesNotThrow(() -> lenient.filterUsers(admin, roleOnly));
+    }
+
+    // ✅ Status drives (status, id) in id order, but createdAt order only follows the V6 index once role is given
+    @Test
+    void filterUsers_ShouldGuardStatusOnlyFilters_ByCreatedAt() {
+        EmployeeFilterService strict = new EmployeeFilterServiceImpl(userRepository, roleValidator, -1);
+
+        assertDoesNotThrow(() -> strict.filterUsers(admin,
+                EmployeeFilterRequest.builder().status("INACTIVE").build()));
+        assertThrows(CustomException.class, () -> strict.filterUsers(admin,
+                EmployeeFilterRequest.builder().status("INACTIVE").sort("createdAt,desc").build()));
+        assertDoesNotThrow(() -> strict.filterUsers(admin,
+                EmployeeFilterRequest.builder().status("INACTIVE").role(Role.MANAGER).sort("createdAt").build()));
+        assertDoesNotThrow(() -> strict.filterUsers(admin,
+                EmployeeFilterRequest.builder().status("INACTIVE").sort("createdAt")
+                        .createdFrom(QUARTER_START).build()));
+    }
+
+    private User user(String email, Role role, String status, Long departmentId, LocalDateTime createdAt) {
+        return User.builder()
+                .firstName("Filter")
+                .lastName("User")
+                .email(email)
+                .password("password123")
+                .role(role)
+                .status(status)
+                .departmentId(departmentId)
+                .createdAt(createdAt)
+                .build();
+    }
+}
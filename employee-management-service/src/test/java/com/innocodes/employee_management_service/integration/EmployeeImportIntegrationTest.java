@@ -0,0 +1,137 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.innocodes.employee_management_service.dto.response.EmployeeImportReport;
+import com.innocodes.employee_management_service.dto.response.ImportRowResult;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.ImportFormat;
+import com.innocodes.employee_management_service.enums.ImportRowStatus;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeImportService;
+import com.innocodes.employee_management_service.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: every batch commits on its own, and a failed batch must not doom the test transaction
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml",
+                "employee.import.batch-size=3"
+        }
+)
+@ActiveProfiles("integration")
+class EmployeeImportIntegrationTest {
+
+    private static final List<String> EMAILS = List.of(
+            "import.a@company.com", "import.b@company.com", "import.c@company.com",
+            "import.d@company.com", "import.e@company.com");
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private AuthenticatedUser admin;
+
+    @BeforeEach
+    void setup() {
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        cleanup();
+    }
+
+    @AfterEach
+    void cleanup() {
+        EMAILS.forEach(email -> userRepository.findByEmail(email)
+                .ifPresent(user -> employeeService.deleteUser(user.getId(), admin)));
+    }
+
+    // ✅ Batches commit independently; duplicates, bad rows and a failing batch are all reported per row
+    @Test
+    void importUsers_ShouldReportEveryRow_AcrossBatchesAndFailures() {
+        String tooLong = "x".repeat(300);
+        String csv = """
+                firstName,lastName,email,status
+                Ann,A,import.a@company.com,ACTIVE
+                Ben,B,import.b@company.com,ACTIVE
+                Ann,Again,import.a@company.com,ACTIVE
+                Root,Admin,admin@company.com,ACTIVE
+                Cid,C,import.c@company.com,ACTIVE
+                %s,D,import.d@company.com,ACTIVE
+                Eve,E,import.e@company.com,ACTIVE
+                No,Email,not-an-email,ACTIVE
+                """.formatted(tooLong);
+
+        EmployeeImportReport report = importCsv(csv);
+
+        assertEquals(8, report.getTotal());
+        assertEquals(4, report.getCreated());
+        assertEquals(2, report.getDuplicates());
+        assertEquals(1, report.getInvalid());
+        assertEquals(1, report.getFailed());
+
+        List<ImportRowResult> rows = report.getRows();
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), rows.stream().map(ImportRowResult::getRow).toList());
+        assertRow(rows.get(2), ImportRowStatus.DUPLICATE, "Email repeats row 1");
+        assertRow(rows.get(3), ImportRowStatus.DUPLICATE, "Email already exists");
+        assertRow(rows.get(7), ImportRowStatus.INVALID, "Invalid email");
+        // Rows 5-7 form the second batch: it fails as a whole, the row-by-row retry rejects only row 6
+        assertEquals(ImportRowStatus.FAILED, rows.get(5).getStatus());
+        assertTrue(rows.get(5).getMessage().startsWith("Rejected by the database"));
+
+        // The first batch (rows 1, 2 and 4, the taken email found at flush) had already committed
+        for (int index : new int[]{0, 1, 4, 6}) {
+            ImportRowResult created = rows.get(index);
+            assertEquals(ImportRowStatus.CREATED, created.getStatus());
+            assertEquals(created.getId(), userRepository.findByEmail(created.getEmail()).orElseThrow().getId());
+        }
+        assertTrue(userRepository.findByEmail("import.d@company.com").isEmpty());
+    }
+
+    // ✅ Imported accounts carry the reset marker instead of a hash: no BCrypt on the import path, no usable password
+    @Test
+    void importUsers_ShouldStoreResetMarker_InsteadOfAHash() {
+        importCsv("""
+                firstName,lastName,email
+                Ann,A,import.a@company.com
+                Ben,B,import.b@company.com
+                Cid,C,import.c@company.com
+                Dan,D,import.d@company.com
+                """);
+
+        for (String email : EMAILS.subList(0, 4)) {
+            String stored = userRepository.findByEmail(email).map(User::getPassword).orElseThrow();
+            assertEquals(User.PASSWORD_RESET_REQUIRED, stored);
+            assertFalse(passwordEncoder.matches("password123", stored));
+        }
+    }
+
+    private EmployeeImportReport importCsv(String csv) {
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        return employeeImportService.importUsers(admin, file, ImportFormat.CSV).getData();
+    }
+
+    private static void assertRow(ImportRowResult row, ImportRowStatus status, String message) {
+        assertEquals(status, row.getStatus());
+        assertEquals(message, row.getMessage());
+    }
+}
@@ -0,0 +1,111 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.EmployeeSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml"
+        }
+)
+@ActiveProfiles("integration")
+@Transactional
+class EmployeeSearchIntegrationTest {
+
+    @Autowired
+    private EmployeeSearchService employeeSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private AuthenticatedUser admin;
+
+    @BeforeEach
+    void setup() {
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        userRepository.saveAndFlush(user("Johnathan", "Search", "jsearch@company.com"));
+        userRepository.saveAndFlush(user("Jon", "Searchwell", "jon.searchwell@company.com"));
+        userRepository.saveAndFlush(user("Grace", "Searchopper", "gsearchopper@company.com"));
+        userRepository.saveAndFlush(user("Ada", "Lovesearch", "search_ada@company.com"));
+        userRepository.saveAndFlush(user("Maryzq Quillzq", "Smithzq", "maryzq.smithzq@company.com"));
+        userRepository.saveAndFlush(user("Maryzq", "Quillzq Joneszq", "maryzq.joneszq@company.com"));
+    }
+
+    // ✅ Exact matches first, then the shortest completion
+    @Test
+    void search_ShouldRankExactAndShortMatchesFirst() {
+        assertEquals(List.of("jsearch@company.com", "jon.searchwell@company.com", "gsearchopper@company.com",
+                "search_ada@company.com"), emails("search"));
+    }
+
+    // ✅ Two words match first and last name in either order
+    @Test
+    void search_ShouldMatchFullNameInEitherOrder() {
+        assertEquals(List.of("gsearchopper@company.com"), emails("grace searcho"));
+        assertEquals(List.of("gsearchopper@company.com"), emails("SearchOpper  GR"));
+    }
+
+    // ✅ Three or more words: split after the first word, or matched against the whole full name
+    @Test
+    void search_ShouldMatchMultiWordNames() {
+        // first name "Maryzq Quillzq" + last name "Smithzq"
+        assertEquals(List.of("maryzq.smithzq@company.com"), emails("maryzq quillzq smi"));
+        // first name "Maryzq" + last name "Quillzq Joneszq", also typed last name first
+        assertEquals(List.of("maryzq.joneszq@company.com"), emails("maryzq quillzq jo"));
+        assertEquals(List.of("maryzq.joneszq@company.com"), emails("quillzq joneszq maryzq"));
+        // first word + start of the other name still matches, as with two words
+        assertEquals(List.of("maryzq.smithzq@company.com"), emails("maryzq smithzq"));
+    }
+
+    // ❌ Only the start of a column matches, not a word inside it
+    @Test
+    void search_ShouldNotMatchInnerWords() {
+        assertEquals(List.of(), emails("joneszq"));
+    }
+
+    // ✅ LIKE wildcards in the query are matched literally
+    @Test
+    void search_ShouldEscapeWildcards() {
+        assertEquals(List.of("search_ada@company.com"), emails("search_"));
+        assertEquals(List.of(), emails("%earch"));
+    }
+
+    @Test
+    void search_ShouldCapResults_AndRejectTooShortTerms() {
+        assertEquals(2, employeeSearchService.search(admin, "search", 2).getData().size());
+        assertThrows(CustomException.class, () -> employeeSearchService.search(admin, " s ", null));
+    }
+
+    private List<String> emails(String query) {
+        return employeeSearchService.search(admin, query, null).getData().stream().map(UserResponse::getEmail).toList();
+    }
+
+    private User user(String firstName, String lastName, String email) {
+        return User.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .password("password123")
+                .role(Role.EMPLOYEE)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
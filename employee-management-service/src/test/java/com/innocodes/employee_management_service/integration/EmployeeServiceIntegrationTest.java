@@ -8,8 +8,8 @@ import com.innocodes.employee_management_service.entity.User;
 import com.innocodes.employee_management_service.enums.Role;
 import com.innocodes.employee_management_service.repository.DepartmentRepository;
 import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
 import com.innocodes.employee_management_service.service.EmployeeService;
-import com.innocodes.employee_management_service.util.JwtTestUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +18,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,7 +44,7 @@ class EmployeeServiceIntegrationTest {
     private Department department;
     private User user;
     private EmployeeRequest employeeRequest;
-    private String adminToken;
+    private AuthenticatedUser admin;
 
     @BeforeEach
     void setup() {
@@ -75,14 +76,14 @@ class EmployeeServiceIntegrationTest {
         employeeRequest.setDepartmentId(department.getId());
         employeeRequest.setStatus("ACTIVE");
 
-        // Generate mock JWT token for admin
-        adminToken = JwtTestUtil.generateToken("admin@company.com", "ADMIN");
+        // Verified admin principal, as built by the JWT filter
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
     }
 
     @Test
     void updateUser_ShouldUpdateSuccessfully() {
         ApiResponse<UserResponse> response =
-                employeeService.updateUser(user.getId(), employeeRequest, "admin@company.com", adminToken);
+                employeeService.updateUser(user.getId(), employeeRequest, admin);
 
         assertEquals("User updated successfully", response.getMessage());
         assertEquals("Smith", response.getData().getLastName());
@@ -94,13 +95,13 @@ class EmployeeServiceIntegrationTest {
     @Test
     void updateUser_ShouldThrowException_WhenUserNotFound() {
         assertThrows(RuntimeException.class, () ->
-                employeeService.updateUser(999L, employeeRequest, "admin@company.com", adminToken));
+                employeeService.updateUser(999L, employeeRequest, admin));
     }
 
     @Test
     void getAllUsers_ShouldReturnUsers() {
         ApiResponse<List<UserResponse>> response =
-                employeeService.getAllUsers("admin@company.com", adminToken);
+                employeeService.getAllUsers(admin, null, null);
 
         assertFalse(response.getData().isEmpty());
         assertEquals("All users fetched successfully", response.getMessage());
@@ -0,0 +1,134 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.innocodes.employee_management_service.config.ReactiveReadServer;
+import com.innocodes.employee_management_service.dto.request.EmployeeRequest;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.security.JwtUtil;
+import com.innocodes.employee_management_service.service.DepartmentService;
+import com.innocodes.employee_management_service.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Not @Transactional: the reactive server reads over its own R2DBC connections, so test rows must be committed
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml",
+                "employee.reactive-reads.enabled=true",
+                "employee.reactive-reads.port=0"
+        }
+)
+@ActiveProfiles("integration")
+class ReactiveReadIntegrationTest {
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private WebTestClient client;
+    private AuthenticatedUser admin;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveReadServer.getPort()).build();
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        user = userRepository.saveAndFlush(User.builder()
+                .firstName("Reactive").lastName("Reader").email("reactive.reader@company.com").password("secret")
+                .role(Role.EMPLOYEE).status("ACTIVE").createdAt(LocalDateTime.now()).build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteById(user.getId());
+    }
+
+    // ✅ Same body and same ETag as the servlet port, and a 304 for an unchanged row
+    @Test
+    void getEmployee_ShouldMatchServletETag_AndAnswer304() {
+        String etag = "\"" + employeeService.getUserVersion(admin, user.getId()).etag() + "\"";
+
+        client.get().uri("/api/v1/employees/{id}", user.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer("admin@company.com", "ADMIN"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("User fetched successfully")
+                .jsonPath("$.data.email").isEqualTo("reactive.reader@company.com");
+
+        client.get().uri("/api/v1/employees/{id}", user.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer("admin@company.com", "ADMIN"))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    // ✅ GET /me shares the profile cache: a write on the servlet side evicts what the reactive side cached
+    @Test
+    void getMyProfile_ShouldSeeServletWrites() {
+        String token = bearer("reactive.reader@company.com", "EMPLOYEE");
+        client.get().uri("/api/v1/employees/me").header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.firstName").isEqualTo("Reactive");
+
+        employeeService.updateUser(user.getId(), EmployeeRequest.builder()
+                .firstName("Renamed").lastName("Reader").status("ACTIVE").build(), admin);
+
+        client.get().uri("/api/v1/employees/me").header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.firstName").isEqualTo("Renamed");
+    }
+
+    // ✅ Same rules as the servlet port: 403 without a token, role and lookup failures as 400 ErrorResponse
+    @Test
+    void reads_ShouldEnforceAuthAndRoles() {
+        client.get().uri("/api/v1/departments").exchange().expectStatus().isForbidden();
+
+        client.get().uri("/api/v1/departments")
+                .header(HttpHeaders.AUTHORIZATION, bearer("reactive.reader@company.com", "EMPLOYEE"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Access denied: Only Admins can perform this action")
+                .jsonPath("$.path").isEqualTo("/api/v1/departments");
+
+        String allDepartments = client.get().uri("/api/v1/departments")
+                .header(HttpHeaders.AUTHORIZATION, bearer("admin@company.com", "ADMIN"))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+        assertEquals("\"" + departmentService.getAllDepartmentsVersion(admin).etag() + "\"", allDepartments);
+    }
+
+    private String bearer(String email, String role) {
+        return "Bearer " + jwtUtil.generateToken(Map.of("email", email, "role", role));
+    }
+}
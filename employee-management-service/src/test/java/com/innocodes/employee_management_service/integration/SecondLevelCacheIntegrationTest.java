@@ -0,0 +1,121 @@
+package com.innocodes.employee_management_service.integration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.innocodes.employee_management_service.dto.request.DepartmentRequest;
+import com.innocodes.employee_management_service.dto.response.DepartmentResponse;
+import com.innocodes.employee_management_service.entity.Department;
+import com.innocodes.employee_management_service.repository.DepartmentRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.DepartmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.Date;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: each lookup needs its own persistence context, or the first-level cache answers it
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+                "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+                "employee.second-level-cache.regions.departments.max-size=100",
+                "employee.second-level-cache.regions.departments.ttl=2m",
+                "employee.second-level-cache.regions.users.max-size=200",
+                "employee.second-level-cache.regions.users.ttl=1m",
+                "employee.second-level-cache.regions.default-query-results-region.max-size=50",
+                "employee.second-level-cache.regions.default-query-results-region.ttl=30s"
+        }
+)
+@ActiveProfiles("integration")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager secondLevelCacheManager;
+
+    private AuthenticatedUser admin;
+    private Long departmentId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        departmentId = ((DepartmentResponse) departmentService.createDepartment(
+                DepartmentRequest.builder().name("Cached").description("Second level").build(), admin).getData()).getId();
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(Department.class);
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        departmentService.deleteDepartment(departmentId, admin);
+    }
+
+    // ✅ The first findById loads and caches the row; the repeat is served from L2 without any SQL
+    @Test
+    void findById_ShouldHitSecondLevelCache_WithoutSql_OnRepeat() {
+        Department loaded = departmentRepository.findById(departmentId).orElseThrow();
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("departments");
+        assertEquals(1, region.getMissCount());
+        assertEquals(1, region.getPutCount());
+        long statementsAfterLoad = statistics.getPrepareStatementCount();
+
+        Department cached = departmentRepository.findById(departmentId).orElseThrow();
+
+        assertEquals(1, region.getHitCount());
+        assertEquals(statementsAfterLoad, statistics.getPrepareStatementCount(), "no SQL for an L2 hit");
+        assertNotSame(loaded, cached);
+        assertEquals("Cached", cached.getName());
+    }
+
+    // ✅ Every region is bounded by the configured size and TTL and records statistics
+    @Test
+    void regions_ShouldUseConfiguredSizeAndTtl() {
+        assertRegion("departments", 100, Duration.ofMinutes(2));
+        assertRegion("users", 200, Duration.ofMinutes(1));
+        assertRegion("default-query-results-region", 50, Duration.ofSeconds(30));
+
+        // Hibernate's per-table write timestamps must outlive every cached query, so they never expire
+        CaffeineConfiguration<?, ?> timestamps = configurationOf("default-update-timestamps-region");
+        assertEquals(OptionalLong.empty(), timestamps.getExpireAfterWrite());
+        assertEquals(OptionalLong.empty(), timestamps.getMaximumSize());
+    }
+
+    private void assertRegion(String name, long maxSize, Duration ttl) {
+        CaffeineConfiguration<?, ?> configuration = configurationOf(name);
+        assertEquals(OptionalLong.of(maxSize), configuration.getMaximumSize(), name);
+        assertEquals(OptionalLong.of(ttl.toNanos()), configuration.getExpireAfterWrite(), name);
+        assertTrue(configuration.isStatisticsEnabled(), name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> configurationOf(String region) {
+        return secondLevelCacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -0,0 +1,147 @@
+package com.innocodes.employee_management_service.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on the SQL behind each repository query against the Flyway-built schema
+ * and fails unless the plan scans the index meant for that query (by name), as an index,
+ * index-only or bitmap index scan, without falling back to a sequential scan.
+ */
+@SpringBootTest(
+        properties = {
+                "spring.config.location=classpath:application-integration.yml"
+        }
+)
+@ActiveProfiles("integration")
+class RepositoryIndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Same columns as UserRepository.USER_RESPONSE, DepartmentRepository.DEPARTMENT_RESPONSE and the search/filter SQL
+    private static final String USER_COLUMNS =
+            "u.id, u.first_name, u.last_name, u.email, u.role, u.department_id, u.status, u.created_at, u.updated_at";
+    private static final String DEPARTMENT_COLUMNS =
+            "d.id, d.name, d.description, d.manager_email, d.created_at, d.updated_at, d.parent_id";
+
+    // V1's unique constraint, or Hibernate's name for it on databases first built by ddl-auto (V1 keeps those tables)
+    private static final String EMAIL_UNIQUE = "(?:uk_users_email|users_email_key)";
+    // Equality on both closure columns: either closure index answers it with one probe
+    private static final String CLOSURE_PAIR = "(?:pk_department_closure|idx_department_closure_descendant)";
+
+    private static final String FIRST = "lower(u.first_name) COLLATE \"C\"";
+    private static final String LAST = "lower(u.last_name) COLLATE \"C\"";
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                // user-015: hot lookups
+                Arguments.of("UserRepository.findByEmail", EMAIL_UNIQUE,
+                        "SELECT * FROM users WHERE email = 'john@company.com'"),
+                Arguments.of("UserRepository.existsByEmail", EMAIL_UNIQUE,
+                        "SELECT id FROM users WHERE email = 'john@company.com' LIMIT 1"),
+                Arguments.of("UserRepository.findExistingEmails", EMAIL_UNIQUE,
+                        "SELECT email FROM users WHERE email IN ('a@company.com', 'b@company.com', 'c@company.com')"),
+                Arguments.of("UserRepository.findByDepartmentId", "idx_users_department_id",
+                        "SELECT * FROM users WHERE department_id = 1"),
+                Arguments.of("UserRepository.findResponseById", "users_pkey",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.id = 1"),
+                Arguments.of("UserRepository.findTimestampsById", "users_pkey",
+                        "SELECT created_at, updated_at FROM users WHERE id = 1"),
+                Arguments.of("UserRepository.findResponseByEmail", EMAIL_UNIQUE,
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.email = 'john@company.com'"),
+                Arguments.of("UserRepository.findResponsesAfter", "users_pkey",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.id > 0 ORDER BY u.id LIMIT 101"),
+                Arguments.of("UserRepository.findResponsesByDepartmentAfter", "idx_users_department_id",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.department_id = 1 AND u.id > 0 ORDER BY u.id LIMIT 101"),
+                Arguments.of("DepartmentRepository.findByManagerEmail", "idx_departments_manager_email",
+                        "SELECT * FROM departments WHERE manager_email = 'manager@company.com'"),
+                Arguments.of("DepartmentRepository.findResponseById", "departments_pkey",
+                        "SELECT " + DEPARTMENT_COLUMNS + " FROM departments d WHERE d.id = 1"),
+                Arguments.of("DepartmentRepository.findResponsesAfter", "departments_pkey",
+                        "SELECT " + DEPARTMENT_COLUMNS + " FROM departments d WHERE d.id > 0 ORDER BY d.id LIMIT 101"),
+                // user-019: department hierarchy
+                Arguments.of("UserRepository.findResponsesInSubtreeAfter", "pk_department_closure",
+                        "SELECT " + USER_COLUMNS + " FROM users u " +
+                                "JOIN department_closure c ON c.descendant_id = u.department_id WHERE c.ancestor_id = 1 AND u.id > 0 ORDER BY u.id LIMIT 101"),
+                Arguments.of("DepartmentRepository.findDescendantResponses", "pk_department_closure",
+                        "SELECT " + DEPARTMENT_COLUMNS + " FROM departments d " +
+                                "JOIN department_closure c ON c.descendant_id = d.id WHERE c.ancestor_id = 1 AND c.depth > 0 ORDER BY c.depth, d.id"),
+                Arguments.of("DepartmentRepository.reparentChildren", "idx_departments_parent_id",
+                        "SELECT id FROM departments WHERE parent_id = 1"),
+                Arguments.of("DepartmentClosureRepository.existsByAncestorIdAndDescendantId", CLOSURE_PAIR,
+                        "SELECT 1 FROM department_closure WHERE ancestor_id = 1 AND descendant_id = 2 LIMIT 1"),
+                Arguments.of("DepartmentClosureRepository.detachSubtree (ancestors)", "idx_department_closure_descendant",
+                        "SELECT ancestor_id FROM department_closure WHERE descendant_id = 2"),
+                // user-020: search, one index per branch
+                Arguments.of("EmployeeSearchServiceImpl first name prefix", "idx_users_search_first_last",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE " + FIRST + " LIKE 'jo%' " +
+                                "ORDER BY " + FIRST + ", " + LAST + ", u.id LIMIT 10"),
+                Arguments.of("EmployeeSearchServiceImpl last name prefix", "idx_users_search_last_first",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE " + LAST + " LIKE 'jo%' " +
+                                "ORDER BY " + LAST + ", " + FIRST + ", u.id LIMIT 10"),
+                Arguments.of("EmployeeSearchServiceImpl email prefix", "idx_users_search_email",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE lower(u.email) COLLATE \"C\" LIKE 'jo%' " +
+                                "ORDER BY lower(u.email) COLLATE \"C\", u.id LIMIT 10"),
+                Arguments.of("EmployeeSearchServiceImpl full name, first name first", "idx_users_search_first_last",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE " + FIRST + " LIKE 'mary%' " +
+                                "AND (" + LAST + " LIKE 'ann smi%' OR " + FIRST + " || ' ' || " + LAST + " LIKE 'mary ann smi%') " +
+                                "ORDER BY " + FIRST + ", " + LAST + ", u.id LIMIT 10"),
+                Arguments.of("EmployeeSearchServiceImpl full name, last name first", "idx_users_search_last_first",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE " + LAST + " LIKE 'mary%' " +
+                                "AND (" + FIRST + " LIKE 'ann smi%' OR " + LAST + " || ' ' || " + FIRST + " LIKE 'mary ann smi%') " +
+                                "ORDER BY " + LAST + ", " + FIRST + ", u.id LIMIT 10"),
+                // user-021: filter shapes, V6/V8 indexes and idx_users_department_id for department sets
+                Arguments.of("EmployeeFilterServiceImpl status + role + createdAt range, by createdAt", "idx_users_status_role_created_at",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.status = 'ACTIVE' AND u.role = 'MANAGER' " +
+                                "AND u.created_at >= '2026-07-01' AND u.created_at < '2026-10-01' " +
+                                "AND u.created_at IS NOT NULL ORDER BY u.created_at, u.id LIMIT 101"),
+                Arguments.of("EmployeeFilterServiceImpl status, by id", "idx_users_status_id",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.status = 'INACTIVE' AND u.id > 500 " +
+                                "ORDER BY u.id LIMIT 101"),
+                Arguments.of("EmployeeFilterServiceImpl status + role, by id", "idx_users_status_id",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.status = 'INACTIVE' AND u.role = 'MANAGER' " +
+                                "ORDER BY u.id LIMIT 101"),
+                Arguments.of("EmployeeFilterServiceImpl createdAt keyset page", "idx_users_created_at",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.created_at IS NOT NULL AND u.created_at >= '2026-07-01' " +
+                                "AND (u.created_at > '2026-07-01' OR u.created_at = '2026-07-01' AND u.id > 500) " +
+                                "ORDER BY u.created_at, u.id LIMIT 101"),
+                Arguments.of("EmployeeFilterServiceImpl updatedAt range", "idx_users_updated_at",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.updated_at >= '2026-07-01' AND u.updated_at < '2026-10-01' " +
+                                "ORDER BY u.id LIMIT 101"),
+                Arguments.of("EmployeeFilterServiceImpl department set", "idx_users_department_id",
+                        "SELECT " + USER_COLUMNS + " FROM users u WHERE u.department_id IN (1, 2, 3) AND u.id > 0 " +
+                                "ORDER BY u.id LIMIT 101")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void query_ShouldUseItsIndex(String repositoryMethod, String index, String sql) {
+        String plan = new TransactionTemplate(transactionManager).execute(status -> {
+            // Near-empty test tables always favour a sequential scan; switching it off shows whether an index path exists
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        });
+
+        assertFalse(plan.contains("Seq Scan"), repositoryMethod + " needs a sequential scan:\n" + plan);
+        // Any index would beat a Seq Scan; the plan must start from the one the migration added for this query
+        assertTrue(Pattern.compile("(Index Scan|Index Only Scan)( Backward)? using " + index + " |Bitmap Index Scan on " + index + "\\b")
+                .matcher(plan).find(), repositoryMethod + " does not use " + index + ":\n" + plan);
+    }
+}
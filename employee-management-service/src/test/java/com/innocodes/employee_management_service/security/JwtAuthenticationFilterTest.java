@@ -0,0 +1,68 @@
+package com.innocodes.employee_management_service.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setup() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "3b8b6f6a2c4a8f0b90e2c7c9f67f8e8a1d1a2b3c4d5e6f708091a1b2c3d4e5f6");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        jwtUtil.init();
+        filter = new JwtAuthenticationFilter(jwtUtil, new EdgeIdentityResolver(false, ""));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ✅ A malformed bearer token leaves the request unauthenticated instead of failing with a 500
+    @Test
+    void doFilter_ShouldContinueUnauthenticated_ForMalformedTokens() throws Exception {
+        String nullSegment = Base64.getUrlEncoder().withoutPadding().encodeToString("null".getBytes(StandardCharsets.UTF_8));
+        for (String token : List.of("garbage", nullSegment + "." + nullSegment + ".c2ln")) {
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request("Bearer " + token), new MockHttpServletResponse(), chain);
+
+            assertNotNull(chain.getRequest(), token);
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    @Test
+    void doFilter_ShouldAuthenticateValidTokens() throws Exception {
+        String token = jwtUtil.generateToken(Map.of("email", "john@company.com", "role", "ADMIN"));
+
+        filter.doFilter(request("Bearer " + token), new MockHttpServletResponse(), new MockFilterChain());
+
+        AuthenticatedUser principal = (AuthenticatedUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals("john@company.com", principal.getEmail());
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/me");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
@@ -9,11 +9,14 @@ import com.innocodes.employee_management_service.enums.Role;
 import com.innocodes.employee_management_service.exceptions.CustomException;
 import com.innocodes.employee_management_service.repository.DepartmentRepository;
 import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.service.impl.DepartmentHeadcount;
 import com.innocodes.employee_management_service.utils.RoleValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -34,12 +37,17 @@ class EmployeeServiceTest {
     @Mock
     private RoleValidator roleValidator;
 
+    @Mock
+    private DepartmentHeadcount headcount;
+
     @InjectMocks
     private EmployeeService employeeService;
 
     private EmployeeRequest employeeRequest;
     private User user;
+    private UserResponse userResponse;
     private Department department;
+    private AuthenticatedUser admin;
 
     @BeforeEach
     void setUp() {
@@ -51,6 +59,8 @@ class EmployeeServiceTest {
         employeeRequest.setDepartmentId(1L);
         employeeRequest.setStatus("ACTIVE");
 
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+
         department = new Department();
         department.setId(1L);
         department.setName("Finance");
@@ -65,6 +75,17 @@ class EmployeeServiceTest {
                 .departmentId(1L)
                 .createdAt(LocalDateTime.now())
                 .build();
+
+        userResponse = UserResponse.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@company.com")
+                .role(Role.EMPLOYEE)
+                .status("ACTIVE")
+                .departmentId(1L)
+                .createdAt(user.getCreatedAt())
+                .build();
     }
 
     // ✅ 1. Update User - Success
@@ -75,11 +96,11 @@ class EmployeeServiceTest {
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         ApiResponse<UserResponse> response =
-                employeeService.updateUser(1L, employeeRequest, "admin@company.com", "mockToken");
+                employeeService.updateUser(1L, employeeRequest, admin);
 
         assertEquals("User updated successfully", response.getMessage());
         assertEquals("john@company.com", response.getData().getEmail());
-        verify(roleValidator).checkIfAdmin(anyString());
+        verify(roleValidator).checkIfAdmin(admin);
     }
 
     // ❌ 2. Update User - Not Found
@@ -87,40 +108,54 @@ class EmployeeServiceTest {
     void updateUser_ShouldThrowException_WhenUserNotFound() {
         when(userRepository.findById(99L)).thenReturn(Optional.empty());
         assertThrows(CustomException.class,
-                () -> employeeService.updateUser(99L, employeeRequest, "admin@company.com", "mockToken"));
+                () -> employeeService.updateUser(99L, employeeRequest, admin));
     }
 
     // ✅ 3. Delete User - Success
     @Test
     void deleteUser_ShouldReturnSuccess() {
-        doNothing().when(userRepository).deleteById(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
         ApiResponse<Void> response =
-                employeeService.deleteUser(1L, "admin@company.com", "mockToken");
+                employeeService.deleteUser(1L, admin);
 
         assertEquals("User deleted successfully", response.getMessage());
-        verify(userRepository).deleteById(1L);
-        verify(roleValidator).checkIfAdmin(anyString());
+        verify(userRepository).delete(user);
+        verify(roleValidator).checkIfAdmin(admin);
     }
 
     // ✅ 4. Get All Users
     @Test
     void getAllUsers_ShouldReturnList() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
+        when(userRepository.findResponsesAfter(0L, Limit.of(101))).thenReturn(List.of(userResponse));
 
         ApiResponse<List<UserResponse>> response =
-                employeeService.getAllUsers("admin@company.com", "mockToken");
+                employeeService.getAllUsers(admin, null, null);
 
         assertEquals(1, response.getData().size());
+        assertNull(response.getNext());
         assertEquals("All users fetched successfully", response.getMessage());
-        verify(roleValidator).checkIfAdmin(anyString());
+        verify(roleValidator).checkIfAdmin(admin);
+    }
+
+    // ✅ 4b. Get All Users - next cursor when more rows exist
+    @Test
+    void getAllUsers_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        UserResponse second = UserResponse.builder().id(2L).email("jane@company.com").role(Role.EMPLOYEE).build();
+        when(userRepository.findResponsesAfter(0L, Limit.of(2))).thenReturn(List.of(userResponse, second));
+
+        ApiResponse<List<UserResponse>> response =
+                employeeService.getAllUsers(admin, null, 1);
+
+        assertEquals(1, response.getData().size());
+        assertEquals(user.getId(), response.getNext());
     }
 
     // ✅ 5. Get My Profile - Success
     @Test
     void getMyProfile_ShouldReturnUser_WhenExists() {
-        when(userRepository.findByEmail("john@company.com"))
-                .thenReturn(Optional.of(user));
+        when(userRepository.findResponseByEmail("john@company.com"))
+                .thenReturn(Optional.of(userResponse));
 
         ApiResponse<UserResponse> response =
                 employeeService.getMyProfile("john@company.com");
@@ -132,7 +167,7 @@ class EmployeeServiceTest {
     // ❌ 6. Get My Profile - Not Found
     @Test
     void getMyProfile_ShouldThrowException_WhenNotFound() {
-        when(userRepository.findByEmail("missing@company.com"))
+        when(userRepository.findResponseByEmail("missing@company.com"))
                 .thenReturn(Optional.empty());
 
         assertThrows(CustomException.class,
@@ -0,0 +1,71 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.innocodes.employee_management_service.dto.response.DepartmentHeadcountResponse;
+import com.innocodes.employee_management_service.dto.response.HeadcountRow;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DepartmentHeadcountTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DepartmentHeadcount headcount = new DepartmentHeadcount(userRepository);
+
+    // ✅ The first read loads the grouped count once; later reads stay in memory
+    @Test
+    void get_ShouldLoadOnceAndSummarise() {
+        when(userRepository.countByDepartmentRoleAndStatus()).thenReturn(List.of(
+                new HeadcountRow(1L, Role.EMPLOYEE, "ACTIVE", 3L),
+                new HeadcountRow(1L, Role.MANAGER, "ACTIVE", 1L),
+                new HeadcountRow(1L, Role.EMPLOYEE, null, 2L),
+                new HeadcountRow(2L, Role.EMPLOYEE, "ACTIVE", 5L)));
+
+        DepartmentHeadcountResponse first = headcount.get(1L);
+        headcount.get(2L);
+
+        assertEquals(6, first.getTotal());
+        assertEquals(4L, first.getByStatus().get("ACTIVE"));
+        assertEquals(2L, first.getByStatus().get(DepartmentHeadcount.NO_STATUS));
+        assertEquals(5L, first.getByRole().get(Role.EMPLOYEE));
+        verify(userRepository, times(1)).countByDepartmentRoleAndStatus();
+    }
+
+    // ✅ Writes outside a transaction adjust the counters straight away
+    @Test
+    void changed_ShouldMoveOneUserBetweenBuckets() {
+        when(userRepository.countByDepartmentRoleAndStatus()).thenReturn(List.of(
+                new HeadcountRow(1L, Role.EMPLOYEE, "ACTIVE", 2L)));
+        headcount.get(1L);
+
+        headcount.changed(new DepartmentHeadcount.Bucket(1L, Role.EMPLOYEE, "ACTIVE"),
+                new DepartmentHeadcount.Bucket(2L, Role.EMPLOYEE, "ON_LEAVE"));
+        headcount.added(new DepartmentHeadcount.Bucket(null, Role.EMPLOYEE, "ACTIVE"));
+        headcount.removed(new DepartmentHeadcount.Bucket(1L, Role.EMPLOYEE, "ACTIVE"));
+
+        List<DepartmentHeadcountResponse> all = headcount.getAll();
+        assertEquals(2, all.size());
+        assertEquals(2L, all.get(0).getDepartmentId());
+        assertEquals(1L, all.get(0).getByStatus().get("ON_LEAVE"));
+        assertNull(all.get(1).getDepartmentId());
+        assertEquals(0, headcount.get(1L).getTotal());
+    }
+
+    // ✅ Reconciliation replaces drifted counters with the database truth
+    @Test
+    void reconcile_ShouldOverwriteDrift() {
+        when(userRepository.countByDepartmentRoleAndStatus())
+                .thenReturn(List.of(new HeadcountRow(1L, Role.EMPLOYEE, "ACTIVE", 2L)))
+                .thenReturn(List.of(new HeadcountRow(1L, Role.EMPLOYEE, "ACTIVE", 7L)));
+        headcount.get(1L);
+        headcount.added(new DepartmentHeadcount.Bucket(1L, Role.EMPLOYEE, "ACTIVE"));
+
+        headcount.reconcile();
+
+        assertEquals(7, headcount.get(1L).getTotal());
+    }
+}
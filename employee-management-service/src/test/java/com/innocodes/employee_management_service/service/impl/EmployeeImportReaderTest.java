@@ -0,0 +1,98 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innocodes.employee_management_service.enums.ImportFormat;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // ✅ CSV: header in any order, quoted fields, export-style column names
+    @Test
+    void csv_ShouldMapRowsByHeader() throws IOException {
+        String csv = "email,first_name,lastName,role,departmentId\r\n"
+                + "john@company.com,John,\"Doe, Jr.\",manager,1\r\n"
+                + "\n"
+                + "jane@company.com,\"Jane \"\"JJ\"\"\",\"Multi\nLine\",,\n";
+
+        List<EmployeeImportReader.Row> rows = read(csv, ImportFormat.CSV);
+
+        assertEquals(2, rows.size());
+        assertEquals("Doe, Jr.", rows.get(0).request().getLastName());
+        assertEquals(Role.MANAGER, rows.get(0).request().getRole());
+        assertEquals(1L, rows.get(0).request().getDepartmentId());
+        assertEquals(2, rows.get(1).number());
+        assertEquals("Jane \"JJ\"", rows.get(1).request().getFirstName());
+        assertEquals("Multi\nLine", rows.get(1).request().getLastName());
+        assertNull(rows.get(1).request().getRole());
+    }
+
+    // ❌ CSV: a bad field fails its own row only
+    @Test
+    void csv_ShouldReportBadRow_AndKeepReading() throws IOException {
+        String csv = "email,role,departmentId\n"
+                + "a@company.com,INTERN,\n"
+                + "b@company.com,EMPLOYEE,abc\n"
+                + "c@company.com,EMPLOYEE,2\n";
+
+        List<EmployeeImportReader.Row> rows = read(csv, ImportFormat.CSV);
+
+        assertEquals("Invalid role: INTERN", rows.get(0).error());
+        assertEquals("a@company.com", rows.get(0).email());
+        assertEquals("Invalid departmentId: abc", rows.get(1).error());
+        assertNull(rows.get(2).error());
+    }
+
+    // ❌ CSV: no email column
+    @Test
+    void csv_ShouldRejectHeaderWithoutEmail() {
+        assertThrows(CustomException.class, () -> read("firstName,lastName\nJohn,Doe\n", ImportFormat.CSV));
+    }
+
+    // ✅ JSON: array elements are read one by one; a badly typed element fails alone
+    @Test
+    void json_ShouldReadArray_AndReportBadElements() throws IOException {
+        String json = "[{\"email\":\"john@company.com\",\"role\":\"ADMIN\",\"departmentId\":3},"
+                + "{\"email\":\"bad@company.com\",\"departmentId\":\"x\"},"
+                + "42,"
+                + "{\"email\":\"jane@company.com\"}]";
+
+        List<EmployeeImportReader.Row> rows = read(json, ImportFormat.JSON);
+
+        assertEquals(4, rows.size());
+        assertEquals(Role.ADMIN, rows.get(0).request().getRole());
+        assertEquals("bad@company.com", rows.get(1).email());
+        assertNotNull(rows.get(1).error());
+        assertEquals("Expected an employee object", rows.get(2).error());
+        assertEquals("jane@company.com", rows.get(3).request().getEmail());
+    }
+
+    // ❌ JSON: top level must be an array
+    @Test
+    void json_ShouldRejectNonArray() {
+        assertThrows(CustomException.class, () -> read("{\"email\":\"john@company.com\"}", ImportFormat.JSON));
+    }
+
+    private List<EmployeeImportReader.Row> read(String content, ImportFormat format) throws IOException {
+        List<EmployeeImportReader.Row> rows = new ArrayList<>();
+        try (EmployeeImportReader reader = EmployeeImportReader.open(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            EmployeeImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,125 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.innocodes.employee_management_service.dto.request.EmployeeRequest;
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import com.innocodes.employee_management_service.entity.Department;
+import com.innocodes.employee_management_service.entity.User;
+import com.innocodes.employee_management_service.enums.Role;
+import com.innocodes.employee_management_service.exceptions.CustomException;
+import com.innocodes.employee_management_service.repository.DepartmentRepository;
+import com.innocodes.employee_management_service.repository.UserRepository;
+import com.innocodes.employee_management_service.security.AuthenticatedUser;
+import com.innocodes.employee_management_service.utils.RoleValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Plain Mockito, no Spring context: the profile cache is real, so eviction is checked by its effect
+class EmployeeServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private RoleValidator roleValidator;
+
+    @Spy
+    private ProfileCache profileCache = new ProfileCache(Duration.ofMinutes(10), 100);
+
+    @Mock
+    private DepartmentHeadcount headcount;
+
+    @InjectMocks
+    private EmployeeServiceImpl employeeService;
+
+    private User user;
+    private AuthenticatedUser admin;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        admin = new AuthenticatedUser("admin@company.com", "ADMIN", new Date(System.currentTimeMillis() + 86400000));
+        user = User.builder()
+                .id(1L).firstName("John").lastName("Doe").email("john@company.com")
+                .role(Role.EMPLOYEE).status("ACTIVE").departmentId(1L).createdAt(LocalDateTime.now())
+                .build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(Department.builder().id(1L).name("Finance").build()));
+        when(userRepository.findResponseByEmail("john@company.com")).thenAnswer(invocation -> Optional.of(
+                UserResponse.builder().id(1L).email("john@company.com").firstName(user.getFirstName()).build()));
+    }
+
+    // ✅ Update: the cached profile is evicted, the next GET /me reloads the new name
+    @Test
+    void updateUser_ShouldEvictCachedProfile() {
+        assertEquals("John", employeeService.getMyProfile("john@company.com").getData().getFirstName());
+
+        employeeService.updateUser(1L, EmployeeRequest.builder()
+                .firstName("Johnny").lastName("Doe").departmentId(1L).status("ACTIVE").build(), admin);
+
+        verify(profileCache).evict("john@company.com");
+        assertEquals("Johnny", employeeService.getMyProfile("john@company.com").getData().getFirstName());
+        verify(userRepository, times(2)).findResponseByEmail("john@company.com");
+    }
+
+    // ✅ Delete: the cached profile is evicted with the row
+    @Test
+    void deleteUser_ShouldEvictCachedProfile() {
+        employeeService.getMyProfile("john@company.com");
+
+        employeeService.deleteUser(1L, admin);
+
+        verify(userRepository).delete(user);
+        verify(profileCache).evict("john@company.com");
+        employeeService.getMyProfile("john@company.com");
+        verify(userRepository, times(2)).findResponseByEmail("john@company.com");
+    }
+
+    // ❌ Department listing checks the role on the users row: a token minted before a demotion is not enough
+    @Test
+    void getUsersByDepartment_ShouldUseTheStoredRole_NotTheToken() {
+        AuthenticatedUser demoted = new AuthenticatedUser("john@company.com", "MANAGER", new Date(System.currentTimeMillis() + 86400000));
+
+        CustomException ex = assertThrows(CustomException.class,
+                () -> employeeService.getUsersByDepartment(1L, demoted, null, null));
+
+        assertEquals("Only Managers can view department employees", ex.getMessage());
+        verify(userRepository, never()).findResponsesByDepartmentAfter(anyLong(), anyLong(), any());
+    }
+
+    // ✅ A manager on record gets the page
+    @Test
+    void getUsersByDepartment_ShouldServeManagers_OnRecord() {
+        when(userRepository.findResponseByEmail("boss@company.com")).thenReturn(Optional.of(
+                UserResponse.builder().id(2L).email("boss@company.com").role(Role.MANAGER).build()));
+        when(userRepository.findResponsesByDepartmentAfter(1L, 0L, Limit.of(101))).thenReturn(List.of(
+                UserResponse.builder().id(1L).email("john@company.com").build()));
+        AuthenticatedUser manager = new AuthenticatedUser("boss@company.com", "MANAGER", new Date(System.currentTimeMillis() + 86400000));
+
+        assertEquals(1, employeeService.getUsersByDepartment(1L, manager, null, null).getData().size());
+    }
+
+    // ✅ Reads alone never reload: repeat GET /me is served from the cache
+    @Test
+    void getMyProfile_ShouldHitCache_UntilAWrite() {
+        employeeService.getMyProfile("john@company.com");
+        employeeService.getMyProfile("john@company.com");
+
+        verify(userRepository, times(1)).findResponseByEmail("john@company.com");
+        verify(profileCache, never()).evict(anyString());
+    }
+}
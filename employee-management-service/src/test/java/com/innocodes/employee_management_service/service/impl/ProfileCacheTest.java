@@ -0,0 +1,115 @@
+package com.innocodes.employee_management_service.service.impl;
+
+import com.innocodes.employee_management_service.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileCacheTest {
+
+    private final ProfileCache profileCache = new ProfileCache(Duration.ofMinutes(10), 100);
+
+    // ✅ A cold-cache burst for one user issues a single load
+    @Test
+    void get_ShouldLoadOnce_WhenManyCallersMissTogether() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<UserResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return profileCache.get("john@company.com", email -> {
+                        loads.incrementAndGet();
+                        sleep(100);
+                        return UserResponse.builder().id(1L).email(email).build();
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<UserResponse> result : results) {
+                assertEquals("john@company.com", result.get(5, TimeUnit.SECONDS).getEmail());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    // ✅ Unknown users are not cached, so a later registration shows up immediately
+    @Test
+    void get_ShouldNotCacheMisses() {
+        assertNull(profileCache.get("new@company.com", email -> null));
+
+        UserResponse registered = profileCache.get("new@company.com",
+                email -> UserResponse.builder().id(2L).email(email).build());
+
+        assertEquals(2L, registered.getId());
+    }
+
+    // ✅ Evicted entries are reloaded
+    @Test
+    void evict_ShouldForceReload() {
+        AtomicLong loads = new AtomicLong();
+        profileCache.get("john@company.com", email -> UserResponse.builder().id(loads.incrementAndGet()).build());
+        profileCache.evict("john@company.com");
+        UserResponse reloaded = profileCache.get("john@company.com",
+                email -> UserResponse.builder().id(loads.incrementAndGet()).build());
+
+        assertEquals(2L, reloaded.getId());
+    }
+
+    // ✅ A load that was already running when the row changed is not kept
+    @Test
+    void evict_ShouldDropLoadInFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<UserResponse> stale = pool.submit(() -> profileCache.get("john@company.com", email -> {
+                loading.countDown();
+                await(evicted);
+                return UserResponse.builder().id(1L).status("ACTIVE").build();
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            profileCache.evict("john@company.com");
+            evicted.countDown();
+            assertEquals("ACTIVE", stale.get(5, TimeUnit.SECONDS).getStatus());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        UserResponse fresh = profileCache.get("john@company.com",
+                email -> UserResponse.builder().id(1L).status("INACTIVE").build());
+
+        assertEquals("INACTIVE", fresh.getStatus());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
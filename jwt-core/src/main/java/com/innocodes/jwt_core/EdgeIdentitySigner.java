@@ -0,0 +1,73 @@
+package com.innocodes.jwt_core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Signs and checks the identity headers the api-gateway forwards after it has verified
+ * a JWT ("trusted-edge" mode). The tag is an HMAC-SHA256 over email, role and the
+ * token's expiry, so downstream services can trust the headers with one short HMAC
+ * instead of re-verifying and re-decoding the full token. Use a secret distinct from
+ * {@code jwt.secret}.
+ */
+public class EdgeIdentitySigner {
+
+    public static final String EMAIL_HEADER = "X-User-Email";
+    public static final String ROLE_HEADER = "X-User-Role";
+    public static final String EXPIRES_HEADER = "X-User-Expires";
+    public static final String SIGNATURE_HEADER = "X-User-Signature";
+
+    /** Headers a client must never be able to set itself. */
+    public static final List<String> IDENTITY_HEADERS =
+            List.of(EMAIL_HEADER, ROLE_HEADER, EXPIRES_HEADER, SIGNATURE_HEADER);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final HmacSha256 hmac;
+
+    public EdgeIdentitySigner(byte[] secret) {
+        this.hmac = new HmacSha256(secret);
+    }
+
+    /**
+     * @param expiresAt token expiry in epoch seconds
+     */
+    public String sign(String email, String role, long expiresAt) {
+        byte[] input = signingInput(email, role, expiresAt);
+        return ENCODER.encodeToString(hmac.sign(input, input.length));
+    }
+
+    /**
+     * Returns true when the tag matches and the identity has not expired.
+     * Any missing or unparsable header yields false.
+     */
+    public boolean isValid(String email, String role, String expiresAt, String signature) {
+        if (email == null || expiresAt == null || signature == null) {
+            return false;
+        }
+        long expiry;
+        try {
+            expiry = Long.parseLong(expiresAt);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiry * 1000L <= System.currentTimeMillis()) {
+            return false;
+        }
+        byte[] expected = sign(email, role, expiry).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = signature.getBytes(StandardCharsets.US_ASCII);
+        if (expected.length != actual.length) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < expected.length; i++) {
+            diff |= expected[i] ^ actual[i];
+        }
+        return diff == 0;
+    }
+
+    private static byte[] signingInput(String email, String role, long expiresAt) {
+        return (email + '\n' + (role == null ? "" : role) + '\n' + expiresAt).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,42 @@
+package com.innocodes.jwt_core;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+
+/**
+ * HMAC-SHA256 over a precomputed key with one initialised {@link Mac} per thread,
+ * so signing never pays for {@code Mac.getInstance}/{@code init} on the hot path.
+ */
+final class HmacSha256 {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final ThreadLocal<Mac> mac;
+
+    HmacSha256(byte[] secret) {
+        if (secret == null || secret.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("HS256 requires a secret of at least 256 bits");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    /**
+     * Signs {@code data[0, length)}. {@link Mac#doFinal()} resets the instance for the next call.
+     */
+    byte[] sign(byte[] data, int length) {
+        Mac instance = mac.get();
+        instance.update(data, 0, length);
+        return instance.doFinal();
+    }
+}
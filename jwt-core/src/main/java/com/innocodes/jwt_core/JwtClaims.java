@@ -0,0 +1,73 @@
+package com.innocodes.jwt_core;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Immutable view of a verified token's payload.
+ */
+public final class JwtClaims {
+
+    public static final String EMAIL = "email";
+    public static final String ROLE = "role";
+    public static final String SUBJECT = "sub";
+    public static final String ISSUED_AT = "iat";
+    public static final String EXPIRATION = "exp";
+    public static final String JWT_ID = "jti";
+
+    private final Map<String, Object> claims;
+
+    public JwtClaims(Map<String, Object> claims) {
+        this.claims = Collections.unmodifiableMap(claims);
+    }
+
+    public Object get(String name) {
+        return claims.get(name);
+    }
+
+    public <T> T get(String name, Class<T> type) {
+        Object value = claims.get(name);
+        if (value == null) {
+            return null;
+        }
+        if (!type.isInstance(value)) {
+            throw new JwtVerificationException("Claim '" + name + "' is not a " + type.getSimpleName());
+        }
+        return type.cast(value);
+    }
+
+    public String getEmail() {
+        return get(EMAIL, String.class);
+    }
+
+    public String getRole() {
+        return get(ROLE, String.class);
+    }
+
+    public String getSubject() {
+        return get(SUBJECT, String.class);
+    }
+
+    public String getJwtId() {
+        return get(JWT_ID, String.class);
+    }
+
+    public Date getIssuedAt() {
+        return toDate(ISSUED_AT);
+    }
+
+    public Date getExpiration() {
+        return toDate(EXPIRATION);
+    }
+
+    public Map<String, Object> asMap() {
+        return claims;
+    }
+
+    // NumericDate claims are seconds since the epoch
+    private Date toDate(String name) {
+        Number seconds = get(name, Number.class);
+        return seconds == null ? null : new Date(seconds.longValue() * 1000L);
+    }
+}
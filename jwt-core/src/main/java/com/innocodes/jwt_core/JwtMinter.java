@@ -0,0 +1,59 @@
+package com.innocodes.jwt_core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Thread-safe HS256 token minter. Output is byte-compatible with what jjwt produced
+ * ({@code {"alg":"HS256"}} header, NumericDate {@code iat}/{@code exp}).
+ * Every token gets a random {@code jti} unless the caller supplies one, so it can be revoked.
+ */
+public class JwtMinter {
+
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writer();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] HEADER = ENCODER.encode("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+    private static final int SIGNATURE_LENGTH = 43; // 32-byte HMAC, unpadded Base64URL
+
+    private final HmacSha256 hmac;
+    private final long ttlMillis;
+
+    public JwtMinter(byte[] secret, long ttlMillis) {
+        this.hmac = new HmacSha256(secret);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public String mint(Map<String, Object> claims) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> body = new LinkedHashMap<>(claims);
+        body.putIfAbsent(JwtClaims.JWT_ID, UUID.randomUUID().toString());
+        body.put(JwtClaims.ISSUED_AT, now / 1000L);
+        body.put(JwtClaims.EXPIRATION, (now + ttlMillis) / 1000L);
+
+        byte[] payload;
+        try {
+            payload = ENCODER.encode(JSON_WRITER.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Claims are not serialisable to JSON", e);
+        }
+
+        // header.payload.signature assembled in a single buffer
+        int signingInputLength = HEADER.length + 1 + payload.length;
+        byte[] token = new byte[signingInputLength + 1 + SIGNATURE_LENGTH];
+        System.arraycopy(HEADER, 0, token, 0, HEADER.length);
+        token[HEADER.length] = '.';
+        System.arraycopy(payload, 0, token, HEADER.length + 1, payload.length);
+        token[signingInputLength] = '.';
+        byte[] signature = ENCODER.encode(hmac.sign(token, signingInputLength));
+        System.arraycopy(signature, 0, token, signingInputLength + 1, SIGNATURE_LENGTH);
+
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,14 @@
+package com.innocodes.jwt_core;
+
+/**
+ * Thrown when a token is malformed, carries a bad signature or uses an unsupported algorithm.
+ */
+public class JwtVerificationException extends RuntimeException {
+    public JwtVerificationException(String message) {
+        super(message);
+    }
+
+    public JwtVerificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
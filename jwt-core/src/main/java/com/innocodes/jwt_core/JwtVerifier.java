@@ -0,0 +1,133 @@
+package com.innocodes.jwt_core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Thread-safe HS256 verifier. Works directly on the token's ASCII bytes: the header is
+ * matched against the pre-encoded headers our services emit, the signature is compared
+ * in its Base64URL form (constant time) and only the payload segment is decoded and parsed.
+ * Share one instance per secret.
+ */
+public class JwtVerifier {
+
+    private static final ObjectReader JSON_READER = new ObjectMapper()
+            .readerFor(new TypeReference<Map<String, Object>>() { });
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String SUPPORTED_ALG = "HS256";
+
+    // {"alg":"HS256"} as written by JwtMinter/jjwt, and the common {"alg":"HS256","typ":"JWT"}
+    private static final byte[][] KNOWN_HEADERS = {
+            ENCODER.encode("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII)),
+            ENCODER.encode("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII))
+    };
+
+    private final HmacSha256 hmac;
+    private final VerifiedTokenCache cache;
+
+    public JwtVerifier(byte[] secret) {
+        this(secret, null);
+    }
+
+    /**
+     * @param cache optional cache of verified claims; {@code null} verifies every call
+     */
+    public JwtVerifier(byte[] secret, VerifiedTokenCache cache) {
+        this.hmac = new HmacSha256(secret);
+        this.cache = cache;
+    }
+
+    /**
+     * Verifies signature and expiry and returns the claims.
+     *
+     * @throws TokenExpiredException    if the token is past its {@code exp}
+     * @throws JwtVerificationException if the token is malformed or not signed with our key
+     */
+    public JwtClaims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new JwtVerificationException("Missing token");
+        }
+        if (cache == null) {
+            return verifyUncached(token);
+        }
+        JwtClaims claims = cache.get(token, this::verifyUncached);
+        checkNotExpired(claims);
+        return claims;
+    }
+
+    private JwtClaims verifyUncached(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new JwtVerificationException("Malformed token");
+        }
+
+        byte[] raw = token.getBytes(StandardCharsets.US_ASCII);
+        checkHeader(raw, firstDot);
+        checkSignature(raw, secondDot);
+
+        JwtClaims claims = new JwtClaims(readJson(raw, firstDot + 1, secondDot));
+        checkNotExpired(claims);
+        return claims;
+    }
+
+    private void checkHeader(byte[] raw, int headerEnd) {
+        for (byte[] known : KNOWN_HEADERS) {
+            if (Arrays.equals(raw, 0, headerEnd, known, 0, known.length)) {
+                return;
+            }
+        }
+        // Unusual but legal header: decode it and insist on HS256 (rejects "none" and friends)
+        Object alg = readJson(raw, 0, headerEnd).get("alg");
+        if (!SUPPORTED_ALG.equals(alg)) {
+            throw new JwtVerificationException("Unsupported JWT algorithm: " + alg);
+        }
+    }
+
+    private void checkSignature(byte[] raw, int signingInputEnd) {
+        byte[] expected = ENCODER.encode(hmac.sign(raw, signingInputEnd));
+        int signatureStart = signingInputEnd + 1;
+        if (raw.length - signatureStart != expected.length) {
+            throw new JwtVerificationException("Invalid JWT signature");
+        }
+        int diff = 0;
+        for (int i = 0; i < expected.length; i++) {
+            diff |= expected[i] ^ raw[signatureStart + i];
+        }
+        if (diff != 0) {
+            throw new JwtVerificationException("Invalid JWT signature");
+        }
+    }
+
+    private static void checkNotExpired(JwtClaims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration != null && expiration.getTime() <= System.currentTimeMillis()) {
+            throw new TokenExpiredException("JWT expired at " + expiration.toInstant());
+        }
+    }
+
+    // Header and payload must each be a JSON object; arrays and scalars fail the Map binding, a bare null is checked here
+    private static Map<String, Object> readJson(byte[] raw, int start, int end) {
+        Map<String, Object> value;
+        try {
+            ByteBuffer json = DECODER.decode(ByteBuffer.wrap(raw, start, end - start));
+            value = JSON_READER.readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+        } catch (IllegalArgumentException | IOException e) {
+            throw new JwtVerificationException("Malformed token", e);
+        }
+        if (value == null) {
+            throw new JwtVerificationException("Malformed token");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,10 @@
+package com.innocodes.jwt_core;
+
+/**
+ * Thrown when a correctly signed token is past its {@code exp}.
+ */
+public class TokenExpiredException extends JwtVerificationException {
+    public TokenExpiredException(String message) {
+        super(message);
+    }
+}
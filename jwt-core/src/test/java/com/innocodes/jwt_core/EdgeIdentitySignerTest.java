@@ -0,0 +1,44 @@
+package com.innocodes.jwt_core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeIdentitySignerTest {
+
+    private final EdgeIdentitySigner signer = new EdgeIdentitySigner(
+            "9c1e5f2a7b3d4c6e8f0a1b2c3d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f6a".getBytes(StandardCharsets.UTF_8));
+
+    private final long expiresAt = System.currentTimeMillis() / 1000L + 3600;
+
+    @Test
+    void isValid_ShouldAcceptUntamperedHeaders() {
+        String tag = signer.sign("john@company.com", "EMPLOYEE", expiresAt);
+
+        assertTrue(signer.isValid("john@company.com", "EMPLOYEE", String.valueOf(expiresAt), tag));
+    }
+
+    @Test
+    void isValid_ShouldRejectEscalatedRole() {
+        String tag = signer.sign("john@company.com", "EMPLOYEE", expiresAt);
+
+        assertFalse(signer.isValid("john@company.com", "ADMIN", String.valueOf(expiresAt), tag));
+    }
+
+    @Test
+    void isValid_ShouldRejectExpiredIdentity() {
+        long past = System.currentTimeMillis() / 1000L - 1;
+        String tag = signer.sign("john@company.com", "EMPLOYEE", past);
+
+        assertFalse(signer.isValid("john@company.com", "EMPLOYEE", String.valueOf(past), tag));
+    }
+
+    @Test
+    void isValid_ShouldRejectMissingOrGarbageHeaders() {
+        assertFalse(signer.isValid("john@company.com", "EMPLOYEE", null, "tag"));
+        assertFalse(signer.isValid("john@company.com", "EMPLOYEE", "soon", "tag"));
+        assertFalse(signer.isValid("john@company.com", "EMPLOYEE", String.valueOf(expiresAt), "forged"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.innocodes.jwt_core;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    private static final byte[] SECRET =
+            "3b8b6f6a2c4a8f0b90e2c7c9f67f8e8a1d1a2b3c4d5e6f708091a1b2c3d4e5f6".getBytes(StandardCharsets.UTF_8);
+
+    private final JwtVerifier verifier = new JwtVerifier(SECRET);
+    private final JwtMinter minter = new JwtMinter(SECRET, 60_000);
+
+    @Test
+    void verify_ShouldAcceptTokensMintedByJjwt() {
+        String token = Jwts.builder()
+                .setClaims(Map.of("email", "john@company.com", "role", "ADMIN"))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+
+        JwtClaims claims = verifier.verify(token);
+
+        assertEquals("john@company.com", claims.getEmail());
+        assertEquals("ADMIN", claims.getRole());
+        assertNotNull(claims.getExpiration());
+    }
+
+    @Test
+    void mint_ShouldProduceTokensJjwtAccepts() {
+        String token = minter.mint(Map.of("email", "john@company.com", "role", "MANAGER"));
+
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+
+        assertEquals("john@company.com", claims.get("email", String.class));
+        assertEquals("MANAGER", claims.get("role", String.class));
+    }
+
+    @Test
+    void mint_ShouldAssignUniqueJwtId() {
+        JwtClaims first = verifier.verify(minter.mint(Map.of("email", "john@company.com")));
+        JwtClaims second = verifier.verify(minter.mint(Map.of("email", "john@company.com")));
+
+        assertNotNull(first.getJwtId());
+        assertNotEquals(first.getJwtId(), second.getJwtId());
+    }
+
+    @Test
+    void verify_ShouldRejectTamperedPayload() {
+        String token = minter.mint(Map.of("email", "john@company.com", "role", "EMPLOYEE"));
+        String[] parts = token.split("\\.");
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"email\":\"john@company.com\",\"role\":\"ADMIN\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(JwtVerificationException.class,
+                () -> verifier.verify(parts[0] + "." + forged + "." + parts[2]));
+    }
+
+    @Test
+    void verify_ShouldRejectOtherKeys() {
+        byte[] otherSecret = "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff".getBytes(StandardCharsets.UTF_8);
+        String token = new JwtMinter(otherSecret, 60_000).mint(Map.of("email", "john@company.com"));
+
+        assertThrows(JwtVerificationException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_ShouldRejectAlgNone() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString("{\"email\":\"john@company.com\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(JwtVerificationException.class, () -> verifier.verify(header + "." + payload + "."));
+    }
+
+    @Test
+    void verify_ShouldRejectExpiredToken() {
+        String token = new JwtMinter(SECRET, -1_000).mint(Map.of("email", "john@company.com"));
+
+        assertThrows(TokenExpiredException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void verify_ShouldRejectMalformedToken() {
+        assertThrows(JwtVerificationException.class, () -> verifier.verify("not-a-jwt"));
+        assertThrows(JwtVerificationException.class, () -> verifier.verify("a.b.c.d"));
+    }
+
+    // ✅ A header that is JSON but not an object is rejected before any signature work
+    @Test
+    void verify_ShouldRejectHeaderThatIsNotAJsonObject() {
+        String payload = encode("{\"email\":\"john@company.com\"}");
+        for (String header : new String[]{"null", "[\"HS256\"]", "\"HS256\"", "42"}) {
+            JwtVerificationException e = assertThrows(JwtVerificationException.class,
+                    () -> verifier.verify(encode(header) + "." + payload + ".c2ln"), header);
+            assertEquals("Malformed token", e.getMessage());
+        }
+    }
+
+    // ✅ A correctly signed payload that is not an object is malformed, not a NullPointerException
+    @Test
+    void verify_ShouldRejectSignedPayloadThatIsNotAJsonObject() {
+        String header = encode("{\"alg\":\"HS256\"}");
+        for (String payload : new String[]{"null", "[1,2]", "\"john\"", "true"}) {
+            String signingInput = header + "." + encode(payload);
+            byte[] bytes = signingInput.getBytes(StandardCharsets.US_ASCII);
+            String signature = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(new HmacSha256(SECRET).sign(bytes, bytes.length));
+
+            JwtVerificationException e = assertThrows(JwtVerificationException.class,
+                    () -> verifier.verify(signingInput + "." + signature), payload);
+            assertEquals("Malformed token", e.getMessage());
+        }
+    }
+
+    @Test
+    void reactiveVerify_ShouldEmitClaimsOrError() {
+        ReactiveJwtVerifier reactive = new ReactiveJwtVerifier(verifier);
+        String token = minter.mint(Map.of("email", "john@company.com"));
+
+        StepVerifier.create(reactive.verify(token))
+                .assertNext(claims -> assertEquals("john@company.com", claims.getEmail()))
+                .verifyComplete();
+        StepVerifier.create(reactive.verify("bad.token.value"))
+                .expectError(JwtVerificationException.class)
+                .verify();
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.innocodes.jwt_core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+    @Test
+    void get_ShouldVerifyOnlyOnce_ForRepeatedToken() {
+        AtomicInteger verifications = new AtomicInteger();
+        JwtClaims claims = claimsExpiringIn(60_000);
+
+        for (int i = 0; i < 5; i++) {
+            cache.get("token-a", t -> {
+                verifications.incrementAndGet();
+                return claims;
+            });
+        }
+
+        assertEquals(1, verifications.get());
+        assertEquals(4, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void get_ShouldReverify_WhenTokenAlreadyExpired() {
+        AtomicInteger verifications = new AtomicInteger();
+        JwtClaims claims = claimsExpiringIn(-1_000);
+
+        cache.get("token-b", t -> {
+            verifications.incrementAndGet();
+            return claims;
+        });
+        cache.get("token-b", t -> {
+            verifications.incrementAndGet();
+            return claims;
+        });
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheFailures() {
+        assertThrows(IllegalArgumentException.class, () -> cache.get("bad-token", t -> {
+            throw new IllegalArgumentException("invalid signature");
+        }));
+
+        JwtClaims claims = claimsExpiringIn(60_000);
+        assertSame(claims, cache.get("bad-token", t -> claims));
+    }
+
+    @Test
+    void verifier_ShouldServeRepeatedTokensFromCache() {
+        byte[] secret = "3b8b6f6a2c4a8f0b90e2c7c9f67f8e8a1d1a2b3c4d5e6f708091a1b2c3d4e5f6".getBytes();
+        JwtVerifier verifier = new JwtVerifier(secret, cache);
+        String token = new JwtMinter(secret, 60_000).mint(Map.of("email", "john@company.com"));
+
+        JwtClaims first = verifier.verify(token);
+        JwtClaims second = verifier.verify(token);
+
+        assertSame(first, second);
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    private static JwtClaims claimsExpiringIn(long millis) {
+        return new JwtClaims(Map.of(
+                JwtClaims.EMAIL, "john@company.com",
+                JwtClaims.EXPIRATION, (System.currentTimeMillis() + millis) / 1000L));
+    }
+}
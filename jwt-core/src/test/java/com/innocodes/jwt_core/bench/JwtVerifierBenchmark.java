@@ -0,0 +1,72 @@
+package com.innocodes.jwt_core.bench;
+
+import com.innocodes.jwt_core.JwtClaims;
+import com.innocodes.jwt_core.JwtMinter;
+import com.innocodes.jwt_core.JwtVerifier;
+import com.innocodes.jwt_core.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-call jjwt path the services used to run against jwt-core.
+ * Run from jwt-core/:
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main JwtVerifierBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifierBenchmark {
+
+    private static final String SECRET = "3b8b6f6a2c4a8f0b90e2c7c9f67f8e8a1d1a2b3c4d5e6f708091a1b2c3d4e5f6";
+
+    private String token;
+    private JwtVerifier verifier;
+    private JwtVerifier cachingVerifier;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = SECRET.getBytes(StandardCharsets.UTF_8);
+        token = new JwtMinter(secret, 86_400_000L).mint(Map.of("email", "admin@company.com", "role", "ADMIN"));
+        verifier = new JwtVerifier(secret);
+        cachingVerifier = new JwtVerifier(secret, new VerifiedTokenCache(10_000));
+    }
+
+    /** What JwtUtil.extractAllClaims did on every call before jwt-core. */
+    @Benchmark
+    public Claims jjwtPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public JwtClaims jwtCoreVerify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public JwtClaims jwtCoreCachedVerify() {
+        return cachingVerifier.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerifierBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}